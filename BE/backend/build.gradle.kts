@@ -1,6 +1,7 @@
 plugins {
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.6"
+    id("me.champeau.jmh") version "0.7.2"
     java
 }
 
@@ -20,6 +21,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation ("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
 
+    // Cache kết quả tìm kiếm (W-TinyLFU), version do Spring Boot quản lý
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     runtimeOnly("com.mysql:mysql-connector-j")
 
     // JWT – THÊM 3 DÒNG NÀY!
@@ -37,8 +41,43 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("com.h2database:h2")
+    // MySQL thật cho benchmark FULLTEXT (bỏ qua khi không có Docker)
+    testImplementation("org.testcontainers:testcontainers-mysql")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// Benchmark (@Tag("benchmark")) chạy riêng: ./gradlew benchmark
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the @Tag(\"benchmark\") tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+}
+
+// Micro-benchmark JMH (src/jmh): ./gradlew jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
+
+// Jar JMH gộp cả classpath của Spring Boot, vượt 65535 entry
+tasks.jmhJar {
+    isZip64 = true
+}
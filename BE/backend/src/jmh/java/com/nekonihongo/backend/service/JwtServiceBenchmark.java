@@ -0,0 +1,84 @@
+package com.nekonihongo.backend.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chi phí xác thực JWT cho một request: cách cũ (extractEmail + isTokenValid,
+ * mỗi lần decode secret, dựng key và parser mới) so với {@link JwtService#verify}
+ * dùng key/parser dựng sẵn, và khi token đã nằm trong cache token đã verify.
+ * Chạy: ./gradlew jmh
+ * <p>
+ * Kết quả (JDK 17, avgt, 3 warmup + 5 iteration, 1 fork):
+ * <pre>
+ * legacyExtractAndValidate  31.173 ± 5.071 us/op
+ * verifyOnce                11.106 ± 3.793 us/op
+ * verifyCached               0.782 ± 0.156 us/op
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQtZm9yLW5la29uaWhvbmdvLXRlc3RzLTI1Ni1iaXQ=";
+
+    private JwtService jwtService;
+    private JwtService cachingJwtService;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtService = newJwtService(0);
+        cachingJwtService = newJwtService(10_000);
+        token = jwtService.generateToken("user@example.com", Map.of("userId", 1L, "role", "USER"));
+    }
+
+    // Trước: hai lần parse đầy đủ, mỗi lần decode Base64 + dựng SecretKey + JwtParser
+    @Benchmark
+    public String legacyExtractAndValidate() {
+        String email = Jwts.parser().verifyWith(JwtService.createSigningKey(SECRET)).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+        Jwts.parser().verifyWith(JwtService.createSigningKey(SECRET)).build().parseSignedClaims(token);
+        return email;
+    }
+
+    // Sau: một lần verify với parser dựng sẵn
+    @Benchmark
+    public Claims verifyOnce() {
+        return jwtService.verify(token);
+    }
+
+    // Lặp lại token vừa verify: hash + so sánh chuỗi thay cho HMAC + parse JSON
+    @Benchmark
+    public Claims verifyCached() {
+        return cachingJwtService.verify(token);
+    }
+
+    private static JwtService newJwtService(long verifiedTokenCacheSize) throws ReflectiveOperationException {
+        JwtService service = new JwtService();
+        set(service, "secret", SECRET);
+        set(service, "expirationMs", 3_600_000L);
+        set(service, "refreshExpirationMs", 86_400_000L);
+        set(service, "verifiedTokenCacheSize", verifiedTokenCacheSize);
+        service.init();
+        return service;
+    }
+
+    private static void set(JwtService service, String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(service, value);
+    }
+}
@@ -0,0 +1,73 @@
+package com.nekonihongo.backend.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nekonihongo.backend.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Render envelope {@link ApiResponse} thành byte (và bản gzip) một lần cho mỗi
+ * phiên bản catalog, và ghi biến thể phù hợp với {@code Accept-Encoding} ra
+ * response cho từng request.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogPayloadRenderer {
+
+    private static final String JSON_UTF8 = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    // Dưới ngưỡng này header gzip + CPU giải nén không đáng
+    private static final int MIN_GZIP_SIZE = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public RenderedPayload render(ApiResponse<?> envelope) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(envelope);
+            byte[] gzipBody = body.length >= MIN_GZIP_SIZE ? gzip(body) : null;
+            return new RenderedPayload(body, gzipBody, JSON_UTF8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Không thể render payload catalog", e);
+        }
+    }
+
+    public void write(RenderedPayload payload, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        byte[] bytes = payload.body();
+        if (payload.hasGzip() && ContentEncodings.acceptsGzip(request)) {
+            bytes = payload.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, ContentEncodings.GZIP);
+        }
+        ContentEncodings.addVary(response);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(payload.contentType());
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+        response.flushBuffer();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,11 @@
+package com.nekonihongo.backend.catalog;
+
+import java.time.Instant;
+
+/**
+ * Một phiên bản bất biến của dữ liệu catalog (kanji, ngữ pháp, từ vựng...).
+ * {@code version} tăng dần mỗi lần build lại trong cùng một node;
+ * {@code contentHash} chỉ phụ thuộc vào nội dung nên giống nhau giữa các node.
+ */
+public record CatalogSnapshot<T>(String name, long version, Instant builtAt, String contentHash, T data) {
+}
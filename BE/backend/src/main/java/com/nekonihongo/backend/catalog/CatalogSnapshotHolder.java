@@ -0,0 +1,135 @@
+package com.nekonihongo.backend.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Giữ snapshot hiện tại của một catalog và thay thế nó một cách atomic.
+ * <p>
+ * Đường đọc chỉ là một lần đọc {@link AtomicReference}; chỉ lần đọc đầu tiên
+ * (khi chưa warm-up) mới gọi loader. Việc build lại sau khi ghi chạy nền trên
+ * executor riêng, nhiều yêu cầu refresh liên tiếp được gộp lại thành một.
+ */
+@Slf4j
+public class CatalogSnapshotHolder<T> {
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final Function<T, String> contentHasher;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<CatalogSnapshot<T>> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final List<Runnable> rebuildListeners = new CopyOnWriteArrayList<>();
+
+    public CatalogSnapshotHolder(String name, Supplier<T> loader, Function<T, String> contentHasher,
+            Executor refreshExecutor) {
+        this.name = name;
+        this.loader = loader;
+        this.contentHasher = contentHasher;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public T get() {
+        return snapshot().data();
+    }
+
+    public CatalogSnapshot<T> snapshot() {
+        CatalogSnapshot<T> snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            return snapshot != null ? snapshot : rebuild();
+        }
+    }
+
+    public boolean isLoaded() {
+        return current.get() != null;
+    }
+
+    /**
+     * Tuổi của snapshot hiện tại tính bằng giây; {@code NaN} nếu chưa build lần nào.
+     */
+    public double ageSeconds() {
+        CatalogSnapshot<T> snapshot = current.get();
+        return snapshot == null ? Double.NaN
+                : Duration.between(snapshot.builtAt(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    public long version() {
+        return currentVersion();
+    }
+
+    /**
+     * Build lại đồng bộ trên thread hiện tại rồi swap snapshot mới vào.
+     */
+    public synchronized CatalogSnapshot<T> rebuild() {
+        long start = System.currentTimeMillis();
+        T data = loader.get();
+        CatalogSnapshot<T> snapshot = new CatalogSnapshot<>(
+                name, versions.incrementAndGet(), Instant.now(), contentHasher.apply(data), data);
+        current.set(snapshot);
+        log.info("Catalog '{}' rebuilt to v{} in {}ms", name, snapshot.version(), System.currentTimeMillis() - start);
+        for (Runnable listener : rebuildListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Rebuild listener of catalog '{}' failed: {}", name, e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Đăng ký callback chạy sau mỗi lần snapshot mới được swap vào (trên thread
+     * build), ví dụ để build lại catalog dẫn xuất.
+     */
+    public void onRebuild(Runnable listener) {
+        rebuildListeners.add(listener);
+    }
+
+    /**
+     * Lên lịch build lại ở background. Reader tiếp tục dùng snapshot cũ cho
+     * tới khi bản mới sẵn sàng.
+     */
+    public void refreshAsync() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild catalog '{}', keeping v{}", name, currentVersion(), e);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshPending.set(false);
+            log.warn("Could not schedule rebuild of catalog '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private long currentVersion() {
+        CatalogSnapshot<T> snapshot = current.get();
+        return snapshot != null ? snapshot.version() : 0;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nekonihongo.backend.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Nơi đăng ký tất cả snapshot catalog của ứng dụng.
+ * Loader được bọc trong transaction read-only để có thể gọi từ thread nền;
+ * mỗi snapshot có một content hash (SHA-256 của dạng JSON) dùng làm ETag.
+ * Mỗi catalog có gauge {@code catalog.snapshot.age} và
+ * {@code catalog.snapshot.version} (tag {@code catalog}).
+ */
+@Component
+@Slf4j
+public class CatalogSnapshotRegistry {
+
+    private final ThreadPoolTaskExecutor refreshExecutor;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, CatalogSnapshotHolder<?>> holders = new ConcurrentHashMap<>();
+
+    public CatalogSnapshotRegistry(PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        // Executor riêng (không expose thành bean để không thay applicationTaskExecutor
+        // của Spring Boot), tách khỏi thread pool của Tomcat.
+        this.refreshExecutor = new ThreadPoolTaskExecutor();
+        this.refreshExecutor.setCorePoolSize(1);
+        this.refreshExecutor.setMaxPoolSize(2);
+        this.refreshExecutor.setQueueCapacity(64);
+        this.refreshExecutor.setThreadNamePrefix("catalog-refresh-");
+        this.refreshExecutor.initialize();
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> CatalogSnapshotHolder<T> register(String name, Supplier<T> loader) {
+        return register(name, loader, Function.identity());
+    }
+
+    /**
+     * @param hashSource phần dữ liệu đại diện cho nội dung catalog (ví dụ danh sách
+     *                   DTO), dùng để tính content hash thay vì toàn bộ snapshot
+     */
+    public <T> CatalogSnapshotHolder<T> register(String name, Supplier<T> loader, Function<T, ?> hashSource) {
+        CatalogSnapshotHolder<T> holder = new CatalogSnapshotHolder<>(
+                name,
+                () -> readOnlyTx.execute(status -> loader.get()),
+                data -> contentHash(hashSource.apply(data)),
+                refreshExecutor);
+        if (holders.putIfAbsent(name, holder) != null) {
+            throw new IllegalStateException("Catalog already registered: " + name);
+        }
+        meterRegistry.ifAvailable(registry -> registerMetrics(registry, holder));
+        return holder;
+    }
+
+    /**
+     * Catalog dẫn xuất từ các catalog khác (ví dụ index tìm kiếm chung): được
+     * build lại ở background mỗi khi một catalog nguồn có snapshot mới. Các
+     * catalog nguồn phải được đăng ký trước.
+     */
+    public <T> CatalogSnapshotHolder<T> registerDerived(String name, Supplier<T> loader, Function<T, ?> hashSource,
+            String... sourceNames) {
+        CatalogSnapshotHolder<T> holder = register(name, loader, hashSource);
+        for (String sourceName : sourceNames) {
+            CatalogSnapshotHolder<?> source = holders.get(sourceName);
+            if (source == null) {
+                throw new IllegalStateException("Source catalog not registered: " + sourceName);
+            }
+            source.onRebuild(holder::refreshAsync);
+        }
+        return holder;
+    }
+
+    private void registerMetrics(MeterRegistry registry, CatalogSnapshotHolder<?> holder) {
+        Gauge.builder("catalog.snapshot.age", holder, CatalogSnapshotHolder::ageSeconds)
+                .description("Thời gian kể từ lần build snapshot gần nhất")
+                .baseUnit("seconds")
+                .tag("catalog", holder.getName())
+                .register(registry);
+        Gauge.builder("catalog.snapshot.version", holder, CatalogSnapshotHolder::version)
+                .tag("catalog", holder.getName())
+                .register(registry);
+    }
+
+    private String contentHash(Object content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(content));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Không thể tính content hash cho catalog", e);
+        }
+    }
+
+    public CatalogSnapshotHolder<?> get(String name) {
+        return holders.get(name);
+    }
+
+    public Collection<CatalogSnapshotHolder<?>> all() {
+        return Collections.unmodifiableCollection(holders.values());
+    }
+
+    /**
+     * Warm-up toàn bộ catalog ở background khi app đã sẵn sàng, để request đầu
+     * tiên không phải chờ build.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Warming up {} catalog snapshots", holders.size());
+        holders.values().forEach(CatalogSnapshotHolder::refreshAsync);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+}
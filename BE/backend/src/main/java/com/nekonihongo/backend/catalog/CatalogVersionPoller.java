@@ -0,0 +1,74 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.service.ContentVersionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Poll bảng {@code content_versions} định kỳ để build lại catalog đã bị sửa trên
+ * instance khác.
+ * <p>
+ * Scheduler được tạo riêng ở đây thay vì bật {@code @EnableScheduling} cho toàn
+ * app, để không kích hoạt các job {@code @Scheduled} khác ngoài ý muốn.
+ */
+@Component
+@Slf4j
+public class CatalogVersionPoller {
+
+    private final ContentVersionService contentVersionService;
+    private final boolean enabled;
+    private final Duration interval;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public CatalogVersionPoller(ContentVersionService contentVersionService,
+            @Value("${app.catalog.sync.enabled:true}") boolean enabled,
+            @Value("${app.catalog.sync.poll-interval-ms:5000}") long intervalMs) {
+        this.contentVersionService = contentVersionService;
+        this.enabled = enabled;
+        this.interval = Duration.ofMillis(intervalMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Catalog version polling disabled");
+            return;
+        }
+        try {
+            contentVersionService.initialize();
+        } catch (DataIntegrityViolationException e) {
+            // Instance khác vừa tạo cùng dòng; đọc lại
+            contentVersionService.initialize();
+        }
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("catalog-sync-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::poll, interval);
+        log.info("Polling content_versions every {}ms", interval.toMillis());
+    }
+
+    private void poll() {
+        try {
+            contentVersionService.pollChanges();
+        } catch (RuntimeException e) {
+            log.warn("Catalog version poll failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
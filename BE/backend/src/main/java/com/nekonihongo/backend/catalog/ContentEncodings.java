@@ -0,0 +1,55 @@
+package com.nekonihongo.backend.catalog;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Đọc header {@code Accept-Encoding} để chọn biến thể nén sẵn của payload catalog.
+ */
+public final class ContentEncodings {
+
+    public static final String GZIP = "gzip";
+
+    private ContentEncodings() {
+    }
+
+    public static boolean acceptsGzip(HttpServletRequest request) {
+        return accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), GZIP);
+    }
+
+    /**
+     * Payload catalog phụ thuộc Accept-Encoding nên cache trung gian phải tách theo header này.
+     */
+    public static void addVary(HttpServletResponse response) {
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim();
+            if (!name.equalsIgnoreCase(coding) && !name.equals("*")) {
+                continue;
+            }
+            // "gzip;q=0" nghĩa là client từ chối gzip
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.SuggestionDTO;
+import com.nekonihongo.backend.enums.CategoryType;
+import com.nekonihongo.backend.search.NGramIndex;
+import com.nekonihongo.backend.search.SuggestTrie;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Toàn bộ nội dung học (từ vựng, kanji, ngữ pháp) dưới dạng entry đã sắp theo độ
+ * ưu tiên, cùng trie tiền tố cho autocomplete, n-gram index cho tìm kiếm và
+ * bitmap entry theo loại. Id entry trong trie/index là vị trí trong {@code entries}.
+ */
+public record ContentSearchCatalog(
+        List<SuggestionDTO> entries,
+        SuggestTrie trie,
+        NGramIndex index,
+        Map<CategoryType, BitSet> byType) {
+}
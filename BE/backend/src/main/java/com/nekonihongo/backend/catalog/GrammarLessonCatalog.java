@@ -0,0 +1,16 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.grammar.GrammarLessonDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Danh sách bài học ngữ pháp kèm các response JSON đã render sẵn cho
+ * {@code /api/grammar/lessons} và {@code /api/grammar/lessons/{id}}.
+ */
+public record GrammarLessonCatalog(
+        List<GrammarLessonDto> lessons,
+        RenderedPayload allLessonsPayload,
+        Map<Integer, RenderedPayload> lessonPayloads) {
+}
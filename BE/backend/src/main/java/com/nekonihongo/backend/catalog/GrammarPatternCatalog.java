@@ -0,0 +1,39 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.GrammarPatternDTO;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Ngữ pháp JLPT (sắp theo level rồi id) chia sẵn theo level, kèm số lượng mỗi
+ * level. Chuỗi level trong DTO đã được intern nên mọi pattern cùng level dùng
+ * chung một instance.
+ */
+public record GrammarPatternCatalog(
+        List<GrammarPatternDTO> all,
+        Map<String, List<GrammarPatternDTO>> byLevel,
+        Map<String, Long> countByLevel) {
+
+    public static GrammarPatternCatalog of(List<GrammarPatternDTO> all) {
+        Map<String, List<GrammarPatternDTO>> byLevel = all.stream()
+                .collect(Collectors.groupingBy(GrammarPatternDTO::getLevel, LinkedHashMap::new,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+        Map<String, Long> countByLevel = new TreeMap<>();
+        byLevel.forEach((level, patterns) -> countByLevel.put(level, (long) patterns.size()));
+        return new GrammarPatternCatalog(List.copyOf(all), Collections.unmodifiableMap(byLevel),
+                Collections.unmodifiableMap(countByLevel));
+    }
+
+    public List<GrammarPatternDTO> byLevel(String level) {
+        return level == null ? List.of() : byLevel.getOrDefault(level, List.of());
+    }
+
+    public long count(String level) {
+        return level == null ? 0 : countByLevel.getOrDefault(level, 0L);
+    }
+}
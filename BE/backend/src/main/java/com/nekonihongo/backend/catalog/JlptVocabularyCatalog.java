@@ -0,0 +1,19 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.JlptVocabularyDTO;
+import com.nekonihongo.backend.search.FuzzyIndex;
+import com.nekonihongo.backend.search.NGramIndex;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Từ vựng JLPT (theo thứ tự id) kèm inverted index cho tìm kiếm và bitmap
+ * document theo từng level. Vị trí trong {@code words} chính là doc id của index.
+ * {@code index} và {@code fuzzy} (romaji + nghĩa, cho tìm kiếm chịu lỗi chính tả)
+ * là null khi tìm kiếm chạy trên DB (mode fulltext/like).
+ */
+public record JlptVocabularyCatalog(List<JlptVocabularyDTO> words, Map<String, BitSet> levels, NGramIndex index,
+        FuzzyIndex fuzzy) {
+}
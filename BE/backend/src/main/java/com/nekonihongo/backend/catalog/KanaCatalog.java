@@ -0,0 +1,74 @@
+package com.nekonihongo.backend.catalog;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bảng chữ cái (hiragana/katakana) đã map sang DTO, kèm bảng tra theo ký tự.
+ * <p>
+ * Ký tự đơn nằm trong block Unicode được tra bằng mảng đặc đánh index theo
+ * {@code codepoint - blockBase}: O(1), không hash, không cấp phát. Các mục khác
+ * (ví dụ âm ghép {@code きゃ}) nằm trong map dự phòng.
+ */
+public final class KanaCatalog<D> {
+
+    public static final int HIRAGANA_BLOCK_BASE = 0x3040;
+    public static final int KATAKANA_BLOCK_BASE = 0x30A0;
+    public static final int BLOCK_SIZE = 0x60;
+
+    private final List<D> all;
+    private final int blockBase;
+    private final Object[] byCodePoint;
+    private final Map<String, D> others;
+
+    private KanaCatalog(List<D> all, int blockBase, Object[] byCodePoint, Map<String, D> others) {
+        this.all = all;
+        this.blockBase = blockBase;
+        this.byCodePoint = byCodePoint;
+        this.others = others;
+    }
+
+    public static <D> KanaCatalog<D> of(List<D> all, Function<D, String> characterOf, int blockBase) {
+        Object[] byCodePoint = new Object[BLOCK_SIZE];
+        Map<String, D> others = new HashMap<>();
+        for (D dto : all) {
+            String character = characterOf.apply(dto);
+            if (character == null) {
+                continue;
+            }
+            int slot = slotOf(character, blockBase);
+            if (slot >= 0) {
+                byCodePoint[slot] = dto;
+            } else {
+                others.put(character, dto);
+            }
+        }
+        return new KanaCatalog<>(List.copyOf(all), blockBase, byCodePoint,
+                others.isEmpty() ? Map.of() : Collections.unmodifiableMap(others));
+    }
+
+    public List<D> all() {
+        return all;
+    }
+
+    @SuppressWarnings("unchecked")
+    public D get(String character) {
+        if (character == null) {
+            return null;
+        }
+        int slot = slotOf(character, blockBase);
+        return slot >= 0 ? (D) byCodePoint[slot] : others.get(character);
+    }
+
+    // Kana nằm trong BMP nên một ký tự = một char; trả về -1 nếu phải tra map dự phòng
+    private static int slotOf(String character, int blockBase) {
+        if (character.length() != 1) {
+            return -1;
+        }
+        int slot = character.charAt(0) - blockBase;
+        return slot >= 0 && slot < BLOCK_SIZE ? slot : -1;
+    }
+}
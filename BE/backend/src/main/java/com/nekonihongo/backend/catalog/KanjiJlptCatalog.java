@@ -0,0 +1,42 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.KanjiJlptDTO;
+import com.nekonihongo.backend.enums.JlptLevelType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Toàn bộ kanji JLPT (đã sắp xếp theo level rồi stt) kèm response JSON đã
+ * render sẵn cho {@code /api/kanji/jlpt/all}, danh sách theo từng level và số
+ * lượng mỗi level tính sẵn.
+ */
+public record KanjiJlptCatalog(
+        List<KanjiJlptDTO> all,
+        Map<JlptLevelType, List<KanjiJlptDTO>> byLevel,
+        Map<JlptLevelType, Long> countByLevel,
+        RenderedPayload allPayload) {
+
+    public static KanjiJlptCatalog of(List<KanjiJlptDTO> all, RenderedPayload allPayload) {
+        Map<JlptLevelType, List<KanjiJlptDTO>> byLevel = new EnumMap<>(JlptLevelType.class);
+        Map<JlptLevelType, Long> countByLevel = new EnumMap<>(JlptLevelType.class);
+        for (JlptLevelType level : JlptLevelType.values()) {
+            // Giữ nguyên thứ tự stt của danh sách all
+            List<KanjiJlptDTO> kanji = all.stream().filter(k -> k.getLevel() == level).toList();
+            byLevel.put(level, kanji);
+            countByLevel.put(level, (long) kanji.size());
+        }
+        return new KanjiJlptCatalog(List.copyOf(all), Collections.unmodifiableMap(byLevel),
+                Collections.unmodifiableMap(countByLevel), allPayload);
+    }
+
+    public List<KanjiJlptDTO> byLevel(JlptLevelType level) {
+        return level == null ? List.of() : byLevel.get(level);
+    }
+
+    public long count(JlptLevelType level) {
+        return level == null ? 0 : countByLevel.get(level);
+    }
+}
@@ -0,0 +1,16 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cây lesson → kanji → compound đã map sẵn sang DTO, dùng chung cho mọi request,
+ * kèm response JSON (và bản gzip) đã render sẵn cho danh sách đầy đủ.
+ */
+public record KanjiLessonCatalog(
+        List<KanjiLessonDto> lessons,
+        Map<Integer, KanjiLessonDto> byId,
+        RenderedPayload allLessonsPayload) {
+}
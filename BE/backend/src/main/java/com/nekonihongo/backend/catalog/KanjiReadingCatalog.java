@@ -0,0 +1,16 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.KanjiJlptDTO;
+import com.nekonihongo.backend.dto.kanji.KanjiDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index cách đọc (on/kun, romaji, Hán Việt đã chuẩn hóa) → kanji trong bài học
+ * (bảng kanji) và kanji JLPT (bảng kanji_jlpt), build từ hai snapshot nguồn.
+ */
+public record KanjiReadingCatalog(
+        Map<String, List<KanjiDto>> lessonKanji,
+        Map<String, List<KanjiJlptDTO>> jlptKanji) {
+}
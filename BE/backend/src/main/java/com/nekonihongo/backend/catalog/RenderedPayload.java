@@ -0,0 +1,17 @@
+package com.nekonihongo.backend.catalog;
+
+/**
+ * Response đã được serialize sẵn (envelope {@code ApiResponse} dạng UTF-8 JSON),
+ * có thể ghi thẳng ra servlet output stream mà không qua Jackson.
+ * {@code gzipBody} là bản nén sẵn, {@code null} nếu payload quá nhỏ để đáng nén.
+ */
+public record RenderedPayload(byte[] body, byte[] gzipBody, String contentType) {
+
+    public int length() {
+        return body.length;
+    }
+
+    public boolean hasGzip() {
+        return gzipBody != null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.nekonihongo.backend.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nekonihongo.backend.dto.CursorPageDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Cache kết quả tìm kiếm dùng chung cho các service search.
+ * <p>
+ * Caffeine giới hạn theo tổng số item kết quả (không phải số entry, vì một trang
+ * có thể chứa tới vài trăm DTO) với chính sách W-TinyLFU: query chỉ xuất hiện
+ * một lần không đẩy được các query phổ biến ("taberu", "nihon"...) ra khỏi cache.
+ * Key chứa content hash của snapshot nên kết quả cũ không bao giờ được trả
+ * sau khi dữ liệu đổi; {@link #invalidate(String)} chỉ để giải phóng bộ nhớ sớm.
+ * Metric: {@code cache.gets}, {@code cache.evictions}... với tag
+ * {@code cache=search-results}.
+ */
+@Component
+public class SearchResultCache {
+
+    public static final String CACHE_NAME = "search-results";
+
+    /**
+     * @param query query đã chuẩn hóa
+     * @param level null = mọi level
+     * @param page  số trang/cursor kèm kích thước trang
+     */
+    public record Key(String catalog, String contentHash, String query, String level, String page) {
+    }
+
+    private final Cache<Key, Object> cache;
+
+    public SearchResultCache(
+            @Value("${app.search.result-cache.max-items:200000}") long maxItems,
+            @Value("${app.search.result-cache.expire-after-write-seconds:600}") long expireSeconds,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxItems)
+                .weigher((Key key, Object value) -> weigh(value))
+                // Chặn trên cho dữ liệu bị sửa thẳng trong DB (không qua bump version)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Trả kết quả trong cache hoặc gọi {@code loader} (một lần cho mỗi key, các
+     * request đồng thời cùng key chờ chung).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String catalog, String contentHash, String query, String level, String page,
+            Supplier<T> loader) {
+        return (T) cache.get(new Key(catalog, contentHash, query, level, page), key -> loader.get());
+    }
+
+    // Số item trong kết quả (tối thiểu 1 để entry rỗng vẫn được tính)
+    static int weigh(Object value) {
+        int items;
+        if (value instanceof Page<?> page) {
+            items = page.getNumberOfElements();
+        } else if (value instanceof CursorPageDTO<?> cursorPage) {
+            items = cursorPage.getItems() != null ? cursorPage.getItems().size() : 0;
+        } else if (value instanceof Collection<?> collection) {
+            items = collection.size();
+        } else {
+            items = 1;
+        }
+        return Math.max(1, items);
+    }
+
+    // Bỏ mọi entry của catalog (gọi khi snapshot mới được swap vào)
+    public void invalidate(String catalog) {
+        cache.asMap().keySet().removeIf(key -> key.catalog().equals(catalog));
+    }
+}
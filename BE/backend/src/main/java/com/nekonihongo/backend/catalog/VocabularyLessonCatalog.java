@@ -0,0 +1,23 @@
+package com.nekonihongo.backend.catalog;
+
+import com.nekonihongo.backend.dto.LessonResponse;
+import com.nekonihongo.backend.dto.WordResponse;
+import com.nekonihongo.backend.search.FuzzyIndex;
+import com.nekonihongo.backend.search.NGramIndex;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Các bài từ vựng Minna (kèm danh sách từ) đã nhóm sẵn theo lesson, cùng danh
+ * sách phẳng các từ và index tìm kiếm trên đó (vị trí trong {@code words} là doc id).
+ * {@code byId} có thêm các bài đã có metadata nhưng chưa có từ (lesson rỗng).
+ * {@code fuzzy} chỉ chứa romaji và nghĩa tiếng Việt (hai loại key hay bị gõ sai).
+ */
+public record VocabularyLessonCatalog(
+        List<LessonResponse> lessons,
+        Map<Integer, LessonResponse> byId,
+        List<WordResponse> words,
+        NGramIndex index,
+        FuzzyIndex fuzzy) {
+}
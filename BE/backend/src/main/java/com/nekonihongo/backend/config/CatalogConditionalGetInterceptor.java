@@ -0,0 +1,125 @@
+package com.nekonihongo.backend.config;
+
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.ContentEncodings;
+import com.nekonihongo.backend.service.CategoryService;
+import com.nekonihongo.backend.service.GrammarLessonService;
+import com.nekonihongo.backend.service.GrammarService;
+import com.nekonihongo.backend.service.HiraganaService;
+import com.nekonihongo.backend.service.JlptLevelService;
+import com.nekonihongo.backend.service.KanjiLessonService;
+import com.nekonihongo.backend.service.KanjiService;
+import com.nekonihongo.backend.service.KatakanaService;
+import com.nekonihongo.backend.service.VocabularyService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conditional GET cho các endpoint catalog: ETag là content hash của snapshot
+ * catalog tương ứng, nên {@code If-None-Match} khớp sẽ được trả 304 ngay tại
+ * đây mà không chạm tới controller hay repository.
+ * <p>
+ * Client nhận gzip được gán ETag có hậu tố {@code -gz}: payload nén sẵn và bản
+ * gốc là hai representation khác nhau nên không được dùng chung strong ETag.
+ * <p>
+ * Chỉ endpoint permitAll trong {@link SecurityConfig} được đánh dấu
+ * {@code public}; endpoint cần đăng nhập dùng {@code private} để CDN/proxy dùng
+ * chung không lưu rồi trả cho client chưa đăng nhập.
+ */
+@Component
+public class CatalogConditionalGetInterceptor implements HandlerInterceptor {
+
+    /**
+     * @param shared endpoint công khai (permitAll), được phép lưu ở cache dùng chung
+     */
+    private record CatalogRoute(String catalog, boolean shared) {
+    }
+
+    // Thứ tự quan trọng: pattern đầu tiên khớp sẽ được dùng
+    private static final Map<String, CatalogRoute> CATALOG_PATHS = new LinkedHashMap<>();
+
+    static {
+        CATALOG_PATHS.put("/api/hiragana/**", new CatalogRoute(HiraganaService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/katakana/**", new CatalogRoute(KatakanaService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/kanji/jlpt/**", new CatalogRoute(KanjiService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/kanji/lessons", new CatalogRoute(KanjiLessonService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/kanji/lessons/**", new CatalogRoute(KanjiLessonService.CATALOG_NAME, false));
+        CATALOG_PATHS.put("/api/kanji-lessons/**", new CatalogRoute(KanjiLessonService.CATALOG_NAME, false));
+        CATALOG_PATHS.put("/api/grammar/lessons/**", new CatalogRoute(GrammarLessonService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/grammar/jlpt/**", new CatalogRoute(GrammarService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/grammar/n5", new CatalogRoute(GrammarService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/vocabulary/lessons/**", new CatalogRoute(VocabularyService.CATALOG_NAME, true));
+        CATALOG_PATHS.put("/api/categories", new CatalogRoute(CategoryService.CATALOG_NAME, false));
+        CATALOG_PATHS.put("/api/levels", new CatalogRoute(JlptLevelService.CATALOG_NAME, false));
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final String publicCacheControl;
+    private final String privateCacheControl;
+
+    public CatalogConditionalGetInterceptor(
+            CatalogSnapshotRegistry catalogSnapshotRegistry,
+            @Value("${app.catalog.http-cache.max-age-seconds:60}") long maxAgeSeconds) {
+        this.catalogSnapshotRegistry = catalogSnapshotRegistry;
+        this.publicCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate()
+                .getHeaderValue();
+        this.privateCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePrivate()
+                .mustRevalidate()
+                .getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        CatalogRoute route = findRoute(request.getRequestURI());
+        if (route == null) {
+            return true;
+        }
+        CatalogSnapshotHolder<?> holder = catalogSnapshotRegistry.get(route.catalog());
+        if (holder == null) {
+            return true;
+        }
+
+        String tag = holder.snapshot().contentHash();
+        if (ContentEncodings.acceptsGzip(request)) {
+            tag += "-gz";
+        }
+        String etag = "\"" + tag + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, route.shared() ? publicCacheControl : privateCacheControl);
+        ContentEncodings.addVary(response);
+
+        // checkNotModified tự set header ETag và status 304 nếu khớp
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private CatalogRoute findRoute(String path) {
+        for (Map.Entry<String, CatalogRoute> entry : CATALOG_PATHS.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -1,29 +1,51 @@
 // src/main/java/com/nekonihongo/backend/config/JwtAuthenticationFilter.java
 package com.nekonihongo.backend.config;
 
+import com.nekonihongo.backend.entity.User;
+import com.nekonihongo.backend.enums.AuthenticationMode;
+import com.nekonihongo.backend.repository.AccountState;
+import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.security.AccountStatusCache;
+import com.nekonihongo.backend.security.UserPrincipal;
 import com.nekonihongo.backend.service.JwtService;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Locale;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserRepository userRepository;
+    private final AccountStatusCache accountStatusCache;
+
+    @Value("${app.security.authentication-mode:claims}")
+    private String authenticationModeName;
+
+    private AuthenticationMode authenticationMode;
+
+    @PostConstruct
+    void init() {
+        authenticationMode = AuthenticationMode.valueOf(authenticationModeName.trim().toUpperCase(Locale.ROOT));
+    }
 
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
@@ -54,26 +76,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        String email = null;
+        Claims claims = null;
 
+        // Một lần parse: chữ ký + hạn dùng được kiểm tra cùng lúc với việc lấy claims
         try {
-            email = jwtService.extractEmail(jwt);
+            claims = jwtService.verify(jwt);
         } catch (Exception e) {
-            // Invalid token format
+            // Token sai định dạng, sai chữ ký hoặc hết hạn
         }
 
+        String email = claims != null ? claims.getSubject() : null;
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-                if (jwtService.isTokenValid(jwt)) {
-                    var authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                UserPrincipal userDetails = authenticate(claims);
+                if (!userDetails.isEnabled()) {
+                    throw new DisabledException("Tài khoản của bạn đã bị khóa hoặc cấm");
                 }
+
+                var authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             } catch (Exception e) {
                 SecurityContextHolder.clearContext();
             }
@@ -81,4 +106,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Principal cho một access token đã verify. Mode claims dựng thẳng từ token,
+     * chỉ kèm một lần tra cache trạng thái tài khoản; role lấy từ cache (không tin
+     * role trong token) nên đổi quyền có hiệu lực ngay. Mode database đọc lại user
+     * mỗi request. Cả hai mode đều so tokenVersion, nên token cấp trước khi
+     * khóa/đổi quyền không dùng lại được.
+     */
+    private UserPrincipal authenticate(Claims claims) {
+        // Refresh token và token không có userId không dùng để gọi API
+        if (!JwtService.isAccessToken(claims) || !(claims.get("userId") instanceof Number userId)) {
+            throw new BadCredentialsException("Token không hợp lệ");
+        }
+        long id = userId.longValue();
+        long tokenVersion = JwtService.tokenVersion(claims);
+        if (authenticationMode == AuthenticationMode.CLAIMS) {
+            AccountState state = accountStatusCache.get(id)
+                    .orElseThrow(() -> new DisabledException("Tài khoản không còn tồn tại"));
+            checkTokenVersion(tokenVersion, state.tokenVersion());
+            return UserPrincipal.fromClaims(id, claims.getSubject(), state.role(), state.status());
+        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new DisabledException("Tài khoản không còn tồn tại"));
+        checkTokenVersion(tokenVersion, user.getTokenVersion());
+        return new UserPrincipal(user);
+    }
+
+    private static void checkTokenVersion(long tokenVersion, long currentVersion) {
+        if (tokenVersion != currentVersion) {
+            throw new CredentialsExpiredException("Token đã bị thu hồi");
+        }
+    }
 }
\ No newline at end of file
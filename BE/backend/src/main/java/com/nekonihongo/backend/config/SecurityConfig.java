@@ -89,6 +89,8 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/grammar/jlpt/**").permitAll()
                                                 .requestMatchers("/api/kanji/jlpt/{level}/**").permitAll()
                                                 .requestMatchers("/api/kanji/jlpt/{level}/count").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/api/kanji/by-reading/**").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/api/search/**").permitAll()
 
                                                 // Các API cần đăng nhập
                                                 .requestMatchers("/api/user/progress/vocabulary").authenticated()
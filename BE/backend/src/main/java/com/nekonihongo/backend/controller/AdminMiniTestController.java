@@ -3,10 +3,12 @@ package com.nekonihongo.backend.controller;
 import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.MiniTestSubmissionDTO;
 import com.nekonihongo.backend.entity.MiniTestSubmission;
+import com.nekonihongo.backend.entity.MiniTestSubmission.Status;
 import com.nekonihongo.backend.entity.User;
 import com.nekonihongo.backend.repository.GrammarQuestionRepository;
 import com.nekonihongo.backend.service.MiniTestService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -21,7 +23,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/api/admin/mini-test", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -332,48 +333,32 @@ public class AdminMiniTestController {
             @RequestParam(name = "keyword", required = false) String keyword,
             @RequestParam(name = "status", required = false) String status,
             @RequestParam(name = "lessonId", required = false) Integer lessonId,
+            @RequestParam(name = "userId", required = false) Long userId,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size) {
 
         try {
-            List<MiniTestSubmissionDTO> allSubmissions = miniTestService.getAllSubmissions();
-
-            List<MiniTestSubmissionDTO> filteredSubmissions = allSubmissions.stream()
-                    .filter(submission -> {
-                        boolean matches = true;
-
-                        if (keyword != null && !keyword.isEmpty()) {
-                            String keywordLower = keyword.toLowerCase();
-                            matches = (submission.getUserName() != null
-                                    && submission.getUserName().toLowerCase().contains(keywordLower))
-                                    || (submission.getUserEmail() != null
-                                            && submission.getUserEmail().toLowerCase().contains(keywordLower))
-                                    || (submission.getLessonTitle() != null
-                                            && submission.getLessonTitle().toLowerCase().contains(keywordLower))
-                                    || String.valueOf(submission.getLessonId()).contains(keyword);
-                        }
-
-                        if (status != null && !status.isEmpty()) {
-                            matches = matches && submission.getStatus().equalsIgnoreCase(status);
-                        }
-
-                        if (lessonId != null) {
-                            matches = matches && submission.getLessonId().equals(lessonId.longValue());
-                        }
-
-                        return matches;
-                    })
-                    .collect(Collectors.toList());
+            Status statusFilter = null;
+            if (status != null && !status.isEmpty()) {
+                try {
+                    statusFilter = Status.valueOf(status.toLowerCase());
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest()
+                            .body(ApiResponse.error("Invalid status. Must be pending or feedbacked", "INVALID_STATUS"));
+                }
+            }
 
-            int start = Math.min(page * size, filteredSubmissions.size());
-            int end = Math.min((page + 1) * size, filteredSubmissions.size());
-            List<MiniTestSubmissionDTO> pagedSubmissions = filteredSubmissions.subList(start, end);
+            // Lọc + phân trang trong DB, mới nhất trước
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100),
+                    Sort.by(Sort.Order.desc("submittedAt"), Sort.Order.desc("id")));
+            Page<MiniTestSubmissionDTO> result = miniTestService.searchSubmissions(keyword, statusFilter, lessonId,
+                    userId, pageable);
 
             Map<String, Object> response = new HashMap<>();
-            response.put("data", pagedSubmissions);
-            response.put("currentPage", page);
-            response.put("totalItems", filteredSubmissions.size());
-            response.put("totalPages", (int) Math.ceil((double) filteredSubmissions.size() / size));
+            response.put("data", result.getContent());
+            response.put("currentPage", result.getNumber());
+            response.put("totalItems", result.getTotalElements());
+            response.put("totalPages", result.getTotalPages());
 
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
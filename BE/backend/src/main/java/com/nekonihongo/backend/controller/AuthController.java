@@ -5,6 +5,7 @@ import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.AuthRequest;
 import com.nekonihongo.backend.dto.LoginResponse;
 import com.nekonihongo.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,8 +19,10 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody AuthRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(authService.login(request)));
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody AuthRequest request,
+            HttpServletRequest httpRequest) {
+        // IP thật của client khi chạy sau proxy nhờ server.forward-headers-strategy
+        return ResponseEntity.ok(ApiResponse.success(authService.login(request, httpRequest.getRemoteAddr())));
     }
 
 }
\ No newline at end of file
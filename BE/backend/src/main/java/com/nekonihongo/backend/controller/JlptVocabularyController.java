@@ -1,6 +1,7 @@
 package com.nekonihongo.backend.controller;
 
 import com.nekonihongo.backend.dto.ApiResponse;
+import com.nekonihongo.backend.dto.CursorPageDTO;
 import com.nekonihongo.backend.dto.JlptVocabularyDTO;
 import com.nekonihongo.backend.service.JlptVocabularyService;
 import lombok.RequiredArgsConstructor;
@@ -21,17 +22,31 @@ public class JlptVocabularyController {
             @PathVariable("level") String level,
             @RequestParam(name = "page", defaultValue = "1") int page,
             @RequestParam(name = "size", defaultValue = "50") int size,
-            @RequestParam(name = "q", required = false) String q) {
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy) {
 
         String upperLevel = level.toUpperCase();
         if (!upperLevel.matches("N[1-5]")) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Invalid level. Supported: N1-N5", "INVALID_LEVEL"));
         }
+        if (page < 1) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid page. Must be >= 1", "INVALID_PAGE"));
+        }
+        if (size < 1) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid size. Must be >= 1", "INVALID_SIZE"));
+        }
 
         Page<JlptVocabularyDTO> result;
         if (q != null && !q.trim().isEmpty()) {
-            result = jlptVocabularyService.searchByLevel(upperLevel, q.trim(), page, size);
+            // Chỉ kết quả tìm kiếm mới vào SearchResultCache nên chỉ giới hạn size ở nhánh này
+            if (size > 200) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Invalid size. Supported: 1-200", "INVALID_SIZE"));
+            }
+            result = jlptVocabularyService.searchByLevel(upperLevel, q.trim(), page, size, fuzzy);
         } else {
             result = jlptVocabularyService.getByLevel(upperLevel, page, size);
         }
@@ -39,6 +54,36 @@ public class JlptVocabularyController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    // Phân trang theo cursor (không có tổng số); gửi lại nextCursor để lấy trang sau.
+    // fuzzy=true (cả hai API) nối thêm kết quả gần đúng cho romaji/nghĩa gõ sai
+    @GetMapping("/{level}/scroll")
+    public ResponseEntity<ApiResponse<CursorPageDTO<JlptVocabularyDTO>>> scrollByLevel(
+            @PathVariable("level") String level,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy) {
+
+        String upperLevel = level.toUpperCase();
+        if (!upperLevel.matches("N[1-5]")) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid level. Supported: N1-N5", "INVALID_LEVEL"));
+        }
+        if (size < 1 || size > 200) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid size. Supported: 1-200", "INVALID_SIZE"));
+        }
+
+        CursorPageDTO<JlptVocabularyDTO> result;
+        if (q != null && !q.trim().isEmpty()) {
+            result = jlptVocabularyService.scrollSearch(upperLevel, q.trim(), cursor, size, fuzzy);
+        } else {
+            result = jlptVocabularyService.scrollByLevel(upperLevel, cursor, size);
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     @GetMapping("/{level}/count")
     public ResponseEntity<ApiResponse<Long>> getCountByLevel(@PathVariable("level") String level) {
         String upperLevel = level.toUpperCase();
@@ -1,22 +1,26 @@
 package com.nekonihongo.backend.controller;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.logging.Logger;
 
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nekonihongo.backend.catalog.CatalogPayloadRenderer;
 import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.KanjiJlptDTO;
 import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
+import com.nekonihongo.backend.dto.kanji.KanjiReadingLookupDto;
 import com.nekonihongo.backend.enums.JlptLevelType;
 import com.nekonihongo.backend.service.KanjiLessonService;
 import com.nekonihongo.backend.service.KanjiService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -29,30 +33,14 @@ public class KanjiController {
 
         private final KanjiLessonService kanjiLessonService;
         private final KanjiService kanjiService;
+        private final CatalogPayloadRenderer payloadRenderer;
 
+        // Byte JSON (identity hoặc gzip) đã render sẵn trong snapshot
         @GetMapping("/lessons")
-        public ResponseEntity<List<KanjiLessonDto>> getAllKanjiLessons() {
-                logger.info("=== START: HTTP GET /api/kanji/lessons ===");
-                logger.info("Step 1: Received request for all Kanji lessons");
-                long startTime = System.currentTimeMillis();
-                logger.info("Step 2: Starting service call...");
-
-                List<KanjiLessonDto> lessonDtos = kanjiLessonService.getAllKanjiLessons();
-
-                long serviceTime = System.currentTimeMillis() - startTime;
-                logger.info("Step 3: Service call completed in " + serviceTime + "ms");
-                logger.info("Step 4: Service returned " + lessonDtos.size() + " lessons");
-
-                long responseStartTime = System.currentTimeMillis();
-                ResponseEntity<List<KanjiLessonDto>> response = ResponseEntity.ok(lessonDtos);
-                long responseTime = System.currentTimeMillis() - responseStartTime;
-
-                long totalTime = System.currentTimeMillis() - startTime;
-                logger.info("Step 5: HTTP response created in " + responseTime + "ms");
-                logger.info("Step 6: Total request processing time: " + totalTime + "ms");
-                logger.info("=== END: HTTP GET /api/kanji/lessons ===");
-
-                return response;
+        public void getAllKanjiLessons(HttpServletRequest request, HttpServletResponse response)
+                        throws IOException {
+                logger.info("Received request for all Kanji lessons");
+                payloadRenderer.write(kanjiLessonService.getAllLessonsPayload(), request, response);
         }
 
         @GetMapping("/lessons/{id}")
@@ -88,10 +76,9 @@ public class KanjiController {
 
         // API lấy tất cả kanji JLPT
         @GetMapping("/jlpt/all")
-        public ApiResponse<List<KanjiJlptDTO>> getAllJlptKanji() {
+        public void getAllJlptKanji(HttpServletRequest request, HttpServletResponse response) throws IOException {
                 logger.info("Received request for all JLPT Kanji");
-                List<KanjiJlptDTO> kanjiList = kanjiService.getAllJlptKanji();
-                return ApiResponse.success("Lấy tất cả Kanji JLPT thành công!", kanjiList);
+                payloadRenderer.write(kanjiService.getAllJlptKanjiPayload(), request, response);
         }
 
         @GetMapping("/jlpt/{level}/count")
@@ -109,4 +96,11 @@ public class KanjiController {
                                         "INVALID_LEVEL");
                 }
         }
-}
\ No newline at end of file
+
+        // Tra kanji theo cách đọc: ジン / じん / jin (on), ひと (kun) hoặc Nhân / nhan (Hán Việt)
+        @GetMapping("/by-reading/{reading}")
+        public ApiResponse<KanjiReadingLookupDto> getKanjiByReading(@PathVariable("reading") String reading) {
+                KanjiReadingLookupDto result = kanjiService.getKanjiByReading(reading);
+                return ApiResponse.success("Tra cứu Kanji theo cách đọc thành công!", result);
+        }
+}
@@ -1,14 +1,16 @@
 package com.nekonihongo.backend.controller;
 
+import com.nekonihongo.backend.catalog.CatalogPayloadRenderer;
 import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
 import com.nekonihongo.backend.service.KanjiLessonService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/kanji-lessons")
@@ -17,11 +19,11 @@ import java.util.List;
 public class KanjiLessonController {
 
     private final KanjiLessonService kanjiLessonService;
+    private final CatalogPayloadRenderer payloadRenderer;
 
     @GetMapping("/kanji")
-    public ApiResponse<List<KanjiLessonDto>> getAllLessonsWithKanji() {
-        List<KanjiLessonDto> lessons = kanjiLessonService.getAllLessonsWithKanji();
-        return ApiResponse.success(lessons);
+    public void getAllLessonsWithKanji(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        payloadRenderer.write(kanjiLessonService.getAllLessonsPayload(), request, response);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,36 @@
+package com.nekonihongo.backend.controller;
+
+import com.nekonihongo.backend.dto.ApiResponse;
+import com.nekonihongo.backend.dto.SearchResultDTO;
+import com.nekonihongo.backend.dto.SuggestionDTO;
+import com.nekonihongo.backend.enums.CategoryType;
+import com.nekonihongo.backend.service.ContentSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final ContentSearchService contentSearchService;
+
+    // Tìm kiếm chung trên từ vựng, kanji và ngữ pháp; type = VOCABULARY | KANJI | GRAMMAR (tùy chọn)
+    @GetMapping
+    public ApiResponse<SearchResultDTO> search(
+            @RequestParam("q") String q,
+            @RequestParam(name = "type", required = false) CategoryType type,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ApiResponse.success(contentSearchService.search(q, type, limit));
+    }
+
+    // Gợi ý autocomplete theo prefix (kana, katakana, romaji, tiếng Việt không dấu)
+    @GetMapping("/suggest")
+    public ApiResponse<List<SuggestionDTO>> suggest(
+            @RequestParam("q") String q,
+            @RequestParam(name = "limit", defaultValue = "8") int limit) {
+        return ApiResponse.success(contentSearchService.suggest(q, limit));
+    }
+}
@@ -3,6 +3,7 @@ package com.nekonihongo.backend.controller;
 import com.nekonihongo.backend.dto.*;
 import com.nekonihongo.backend.entity.User;
 import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.security.AccountStatusCache;
 import com.nekonihongo.backend.service.ActivityLogService;
 import com.nekonihongo.backend.service.IUserService;
 import jakarta.validation.Valid;
@@ -24,6 +25,7 @@ public class UserController {
     private final IUserService userService;
     private final UserRepository userRepository;
     private final ActivityLogService activityLogService;
+    private final AccountStatusCache accountStatusCache;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/api/admin/users")
@@ -97,6 +99,8 @@ public class UserController {
                 .build();
 
         User updated = userService.updateUser(id, userToUpdate);
+        // updateUser đã commit: bỏ cache lần nữa để request kế tiếp đọc trạng thái mới
+        accountStatusCache.invalidate(id);
         return ResponseEntity.ok(ApiResponse.success("Cập nhật thành công!", toResponse(updated)));
     }
 
@@ -4,8 +4,7 @@ package com.nekonihongo.backend.controller;
 import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.LessonResponse;
 import com.nekonihongo.backend.dto.WordResponse;
-import com.nekonihongo.backend.entity.Vocabulary;
-import com.nekonihongo.backend.repository.VocabularyRepository;
+import com.nekonihongo.backend.service.VocabularyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -16,63 +15,24 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:5173")
 public class VocabularyController {
 
-    private final VocabularyRepository vocabularyRepository;
+    private final VocabularyService vocabularyService;
 
     // Lấy tất cả bài học (danh sách lesson)
     @GetMapping("/lessons")
     public ApiResponse<List<LessonResponse>> getAllLessons() {
-        var lessonIds = vocabularyRepository.findAllLessonIds();
-
-        var lessons = lessonIds.stream().map(id -> {
-            var words = vocabularyRepository.findByLessonIdOrderByIdAsc(id)
-                    .stream()
-                    .map(this::toWordResponse)
-                    .toList();
-
-            return new LessonResponse(
-                    id,
-                    "Bài " + id + " – Từ vựng Minna", // bạn có thể thêm bảng lesson riêng nếu muốn title đẹp hơn
-                    getIconForLesson(id),
-                    words);
-        }).toList();
-
-        return ApiResponse.success(lessons);
+        return ApiResponse.success(vocabularyService.getAllLessons());
     }
 
     // Lấy 1 bài cụ thể
     @GetMapping("/lessons/{lessonId}")
     public ApiResponse<LessonResponse> getLesson(@PathVariable Integer lessonId) {
-        var words = vocabularyRepository.findByLessonIdOrderByIdAsc(lessonId)
-                .stream()
-                .map(this::toWordResponse)
-                .toList();
-
-        var lesson = new LessonResponse(
-                lessonId,
-                "Bài " + lessonId + " – Từ vựng Minna",
-                getIconForLesson(lessonId),
-                words);
-
-        return ApiResponse.success(lesson);
+        return ApiResponse.success(vocabularyService.getLesson(lessonId));
     }
 
-    // Tìm kiếm từ vựng
+    // Tìm kiếm từ vựng; fuzzy=true bổ sung kết quả gần đúng khi romaji/nghĩa bị gõ sai
     @GetMapping("/search")
-    public ApiResponse<List<WordResponse>> search(@RequestParam String q) {
-        var results = vocabularyRepository
-                .findByJapaneseContainingIgnoreCaseOrKanjiContainingIgnoreCaseOrVietnameseContainingIgnoreCase(q, q, q)
-                .stream()
-                .map(this::toWordResponse)
-                .limit(20)
-                .toList();
-        return ApiResponse.success(results);
-    }
-
-    private WordResponse toWordResponse(Vocabulary v) {
-        return new WordResponse(v.getJapanese(), v.getKanji(), v.getVietnamese(), v.getCategory());
-    }
-
-    private String getIconForLesson(int lessonId) {
-        return "Cat";
+    public ApiResponse<List<WordResponse>> search(@RequestParam String q,
+            @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        return ApiResponse.success(vocabularyService.search(q, 20, fuzzy));
     }
-}
\ No newline at end of file
+}
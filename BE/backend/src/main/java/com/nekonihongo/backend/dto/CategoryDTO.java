@@ -3,12 +3,10 @@ package com.nekonihongo.backend.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class CategoryDTO {
     private Integer id;
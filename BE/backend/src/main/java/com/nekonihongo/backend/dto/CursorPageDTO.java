@@ -0,0 +1,20 @@
+package com.nekonihongo.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// Trang theo cursor: không có tổng số; nextCursor = null khi đã hết
+@Value
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public CursorPageDTO(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items == null ? null : List.copyOf(items);
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -3,9 +3,8 @@ package com.nekonihongo.backend.dto;
 
 import lombok.*;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class GrammarPatternDTO {
     private Long id;
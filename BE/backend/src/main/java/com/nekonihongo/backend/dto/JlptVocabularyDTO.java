@@ -2,9 +2,7 @@ package com.nekonihongo.backend.dto;
 
 import lombok.*;
 
-@Getter
-@Setter
-@NoArgsConstructor
+@Value
 @AllArgsConstructor
 @Builder
 public class JlptVocabularyDTO {
@@ -4,9 +4,8 @@ package com.nekonihongo.backend.dto;
 import com.nekonihongo.backend.enums.JlptLevelType;
 import lombok.*;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class KanjiJlptDTO {
     private Long id;
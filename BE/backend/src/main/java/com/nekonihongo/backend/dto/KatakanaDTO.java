@@ -7,9 +7,8 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class KatakanaDTO {
     private Integer id;
@@ -1,17 +1,20 @@
 // src/main/java/com/nekonihongo/backend/dto/LessonResponse.java
 package com.nekonihongo.backend.dto;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class LessonResponse {
     private Integer id;
     private String title;
     private String icon;
     private List<WordResponse> words;
-}
\ No newline at end of file
+
+    public LessonResponse(Integer id, String title, String icon, List<WordResponse> words) {
+        this.id = id;
+        this.title = title;
+        this.icon = icon;
+        this.words = words == null ? null : List.copyOf(words);
+    }
+}
@@ -0,0 +1,17 @@
+package com.nekonihongo.backend.dto;
+
+import com.nekonihongo.backend.enums.CategoryType;
+import com.nekonihongo.backend.search.MatchRank;
+import lombok.*;
+
+@Value
+@AllArgsConstructor
+@Builder
+public class SearchHitDTO {
+    private CategoryType type; // VOCABULARY, KANJI, GRAMMAR
+    private MatchRank match; // EXACT, PREFIX, SUBSTRING
+    private String text;
+    private String reading;
+    private String meaning;
+    private String level;
+}
@@ -0,0 +1,17 @@
+package com.nekonihongo.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Value
+public class SearchResultDTO {
+    private List<SearchHitDTO> hits; // top-k đã xếp hạng
+    private int total; // tổng số kết quả khớp
+
+    @Builder
+    public SearchResultDTO(List<SearchHitDTO> hits, int total) {
+        this.hits = hits == null ? null : List.copyOf(hits);
+        this.total = total;
+    }
+}
@@ -0,0 +1,16 @@
+package com.nekonihongo.backend.dto;
+
+import com.nekonihongo.backend.enums.CategoryType;
+import lombok.*;
+
+@Value
+@AllArgsConstructor
+@Builder
+public class SuggestionDTO {
+    private CategoryType type; // VOCABULARY, KANJI, GRAMMAR
+    private String text; // từ / kanji / mẫu ngữ pháp
+    private String reading; // cách đọc (có thể null)
+    private String meaning;
+    private String level; // "N5".."N1", null với từ vựng Minna
+    private int weight;
+}
@@ -2,11 +2,9 @@
 package com.nekonihongo.backend.dto;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
-@NoArgsConstructor
+@Value
 @AllArgsConstructor
 public class WordResponse {
     private String japanese;
@@ -2,16 +2,10 @@
 package com.nekonihongo.backend.dto.grammar;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Value;
 
-@Data
-@NoArgsConstructor
+@Value
 @AllArgsConstructor
-@Getter
-@Setter
 public class GrammarExampleDto {
     private String japanese;
     private String vietnamese;
@@ -1,22 +1,21 @@
 // GrammarLessonDto.java
 package com.nekonihongo.backend.dto.grammar;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Value;
 
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Getter
-@Setter
+@Value
 public class GrammarLessonDto {
     private Integer id;
     private String title;
     private String icon;
     private List<GrammarPointDto> grammar;
-}
\ No newline at end of file
+
+    public GrammarLessonDto(Integer id, String title, String icon, List<GrammarPointDto> grammar) {
+        this.id = id;
+        this.title = title;
+        this.icon = icon;
+        this.grammar = grammar == null ? null : List.copyOf(grammar);
+    }
+}
@@ -1,22 +1,21 @@
 // GrammarPointDto.java
 package com.nekonihongo.backend.dto.grammar;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Value;
 
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Getter
-@Setter
+@Value
 public class GrammarPointDto {
     private String title;
     private String meaning;
     private String explanation;
     private List<GrammarExampleDto> examples;
-}
\ No newline at end of file
+
+    public GrammarPointDto(String title, String meaning, String explanation, List<GrammarExampleDto> examples) {
+        this.title = title;
+        this.meaning = meaning;
+        this.explanation = explanation;
+        this.examples = examples == null ? null : List.copyOf(examples);
+    }
+}
@@ -2,12 +2,10 @@ package com.nekonihongo.backend.dto.kanji;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class KanjiCompoundDto {
     private Long id;
@@ -1,15 +1,10 @@
 package com.nekonihongo.backend.dto.kanji;
 
 import java.util.List;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class KanjiDto {
     private Long id;
     private String kanji;
@@ -20,4 +15,18 @@ public class KanjiDto {
     private Integer strokes;
     private Integer displayOrder;
     private List<KanjiCompoundDto> compounds;
+
+    @Builder
+    public KanjiDto(Long id, String kanji, String onReading, String kunReading, String hanViet, String meaning,
+            Integer strokes, Integer displayOrder, List<KanjiCompoundDto> compounds) {
+        this.id = id;
+        this.kanji = kanji;
+        this.onReading = onReading;
+        this.kunReading = kunReading;
+        this.hanViet = hanViet;
+        this.meaning = meaning;
+        this.strokes = strokes;
+        this.displayOrder = displayOrder;
+        this.compounds = compounds == null ? null : List.copyOf(compounds);
+    }
 }
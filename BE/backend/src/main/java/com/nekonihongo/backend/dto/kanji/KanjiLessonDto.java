@@ -1,20 +1,26 @@
 package com.nekonihongo.backend.dto.kanji;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.util.List;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+// Nằm trong catalog snapshot, dùng chung cho mọi request: bất biến, list được copy khi tạo
+@Value
 public class KanjiLessonDto {
     private Integer lessonId;
     private String lessonTitle;
     private String icon;
     private Integer displayOrder;
     private List<KanjiDto> kanji;
+
+    @Builder
+    public KanjiLessonDto(Integer lessonId, String lessonTitle, String icon, Integer displayOrder,
+            List<KanjiDto> kanji) {
+        this.lessonId = lessonId;
+        this.lessonTitle = lessonTitle;
+        this.icon = icon;
+        this.displayOrder = displayOrder;
+        this.kanji = kanji == null ? null : List.copyOf(kanji);
+    }
 }
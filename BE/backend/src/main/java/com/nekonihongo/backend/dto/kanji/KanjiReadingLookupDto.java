@@ -0,0 +1,22 @@
+package com.nekonihongo.backend.dto.kanji;
+
+import java.util.List;
+
+import com.nekonihongo.backend.dto.KanjiJlptDTO;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+public class KanjiReadingLookupDto {
+    private String reading; // cách đọc đã chuẩn hóa dùng để tra
+    private List<KanjiDto> lessonKanji; // kanji trong các bài học
+    private List<KanjiJlptDTO> jlptKanji; // kanji theo cấp độ JLPT
+
+    @Builder
+    public KanjiReadingLookupDto(String reading, List<KanjiDto> lessonKanji, List<KanjiJlptDTO> jlptKanji) {
+        this.reading = reading;
+        this.lessonKanji = lessonKanji == null ? null : List.copyOf(lessonKanji);
+        this.jlptKanji = jlptKanji == null ? null : List.copyOf(jlptKanji);
+    }
+}
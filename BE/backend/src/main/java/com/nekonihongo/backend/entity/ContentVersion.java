@@ -0,0 +1,34 @@
+// src/main/java/com/nekonihongo/backend/entity/ContentVersion.java
+package com.nekonihongo.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Version nội dung của từng catalog; dòng "global" tăng theo mọi lần ghi
+@Entity
+@Table(name = "content_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentVersion {
+    public static final String GLOBAL = "global";
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -71,6 +71,11 @@ public class User {
     @Builder.Default
     private Status status = Status.ACTIVE;
 
+    // Tăng khi đổi role/trạng thái: mọi JWT mang version cũ bị từ chối
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private long tokenVersion = 0;
+
     public enum Role {
         USER("user"),
         ADMIN("admin");
@@ -0,0 +1,32 @@
+// src/main/java/com/nekonihongo/backend/entity/VocabularyLesson.java
+package com.nekonihongo.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Metadata cho từng bài từ vựng; id trùng với vocabulary.lesson_id
+@Entity
+@Table(name = "vocabulary_lessons")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VocabularyLesson {
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String icon = "Cat";
+
+    @Column(name = "display_order", nullable = false)
+    private Integer displayOrder = 0;
+}
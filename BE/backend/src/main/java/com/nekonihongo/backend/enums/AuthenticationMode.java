@@ -0,0 +1,7 @@
+package com.nekonihongo.backend.enums;
+
+// Cách dựng principal cho request có JWT (app.security.authentication-mode)
+public enum AuthenticationMode {
+    CLAIMS, // từ claim userId của token + cache trạng thái/role/version token (mặc định)
+    DATABASE // đọc lại user từ DB mỗi request như trước đây
+}
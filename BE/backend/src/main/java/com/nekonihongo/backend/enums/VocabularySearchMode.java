@@ -0,0 +1,8 @@
+package com.nekonihongo.backend.enums;
+
+// Cách tìm kiếm từ vựng JLPT (app.search.jlpt-vocabulary.mode)
+public enum VocabularySearchMode {
+    MEMORY, // n-gram index trong bộ nhớ (mặc định)
+    FULLTEXT, // MySQL FULLTEXT với parser ngram (cần db/jlpt_vocabulary_fulltext.sql)
+    LIKE // LIKE '%q%' trên DB như trước đây
+}
@@ -4,6 +4,7 @@ import com.nekonihongo.backend.dto.ApiResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -62,6 +63,20 @@ public class GlobalExceptionHandler {
                                 .body(ApiResponse.error("Email or password incorrect", "AUTH_INVALID_CREDENTIALS"));
         }
 
+        @ExceptionHandler(TooManyRequestsException.class)
+        public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(ApiResponse.error(ex.getMessage(), "TOO_MANY_REQUESTS"));
+        }
+
+        @ExceptionHandler(ServiceOverloadedException.class)
+        public ResponseEntity<ApiResponse<Void>> handleServiceOverloaded(ServiceOverloadedException ex) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(ApiResponse.error(ex.getMessage(), "SERVICE_UNAVAILABLE"));
+        }
+
         @ExceptionHandler(AuthenticationException.class)
         public ResponseEntity<ApiResponse<Void>> handleAuthentication(AuthenticationException ex) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
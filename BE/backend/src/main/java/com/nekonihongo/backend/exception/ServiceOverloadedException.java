@@ -0,0 +1,15 @@
+package com.nekonihongo.backend.exception;
+
+import lombok.Getter;
+
+// 503 kèm header Retry-After: server tạm thời từ chối việc nặng thay vì xếp hàng vô hạn
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
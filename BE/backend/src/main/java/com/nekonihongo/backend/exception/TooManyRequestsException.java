@@ -0,0 +1,15 @@
+package com.nekonihongo.backend.exception;
+
+import lombok.Getter;
+
+// 429 kèm header Retry-After (xem GlobalExceptionHandler)
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,14 @@
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.User;
+
+/**
+ * Phần của user cần cho mỗi request đã xác thực: trạng thái, role hiện tại và
+ * version token (tăng khi cần thu hồi mọi token đã cấp).
+ */
+public record AccountState(User.Status status, User.Role role, long tokenVersion) {
+
+    public boolean isActive() {
+        return status == User.Status.ACTIVE;
+    }
+}
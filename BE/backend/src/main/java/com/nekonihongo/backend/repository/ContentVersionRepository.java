@@ -0,0 +1,31 @@
+// src/main/java/com/nekonihongo/backend/repository/ContentVersionRepository.java
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.ContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+    // Tăng version trong transaction của lần ghi (row lock tới khi commit). Không clear
+    // persistence context: entity mà service gọi bump đã load vẫn còn managed
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContentVersion c SET c.version = c.version + 1, c.updatedAt = CURRENT_TIMESTAMP WHERE c.name IN :names")
+    int incrementVersions(@Param("names") Collection<String> names);
+
+    // Đọc lại version sau khi tăng: projection lấy thẳng từ DB, không trả entity cũ còn trong context
+    @Query("SELECT c.name, c.version FROM ContentVersion c WHERE c.name IN :names")
+    List<Object[]> findVersionsByNames(@Param("names") Collection<String> names);
+
+    // Poll: chỉ đọc version theo primary key
+    @Query("SELECT c.version FROM ContentVersion c WHERE c.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+}
@@ -4,19 +4,32 @@ package com.nekonihongo.backend.repository;
 import com.nekonihongo.backend.entity.JlptVocabulary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface JlptVocabularyRepository extends JpaRepository<JlptVocabulary, Long> {
 
     // Lấy tất cả từ vựng phân trang (chung cho tất cả level)
     Page<JlptVocabulary> findAll(Pageable pageable);
 
-    // Lấy từ vựng theo level cụ thể (N5, N4, N3, N2, N1)
-    Page<JlptVocabulary> findByLevel(String level, Pageable pageable);
+    // Trang theo số trang nhưng trả Slice (không chạy COUNT); tổng lấy từ bộ đếm cache
+    Slice<JlptVocabulary> findByLevelOrderByIdAsc(String level, Pageable pageable);
+
+    Slice<JlptVocabulary> findAllByOrderByLevelAscIdAsc(Pageable pageable);
+
+    // Keyset: trang tiếp theo sau (level, id) của dòng cuối trang trước, dùng index (level, id)
+    Slice<JlptVocabulary> findByLevelAndIdGreaterThanOrderByIdAsc(String level, Long afterId, Pageable pageable);
+
+    @Query("SELECT v FROM JlptVocabulary v WHERE v.level > :level OR (v.level = :level AND v.id > :afterId) " +
+            "ORDER BY v.level, v.id")
+    Slice<JlptVocabulary> findAllAfter(@Param("level") String level, @Param("afterId") Long afterId,
+            Pageable pageable);
 
     // Tìm kiếm chung toàn bộ (không filter level)
     @Query("SELECT v FROM JlptVocabulary v WHERE " +
@@ -32,9 +45,32 @@ public interface JlptVocabularyRepository extends JpaRepository<JlptVocabulary,
             "LOWER(v.tiengViet) LIKE LOWER(CONCAT('%', :query, '%')))")
     Page<JlptVocabulary> searchByLevel(@Param("level") String level, @Param("query") String query, Pageable pageable);
 
+    // FULLTEXT (parser ngram) trên tuVung/hanTu/tiengViet, dùng khi
+    // app.search.jlpt-vocabulary.mode=fulltext. :query là chuỗi boolean-mode (ví dụ "\"たべ\"").
+    @Query(value = "SELECT * FROM jlpt_vocabulary " +
+            "WHERE MATCH(tuVung, hanTu, tiengViet) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(tuVung, hanTu, tiengViet) AGAINST (:query IN BOOLEAN MODE) DESC, id",
+            countQuery = "SELECT COUNT(*) FROM jlpt_vocabulary " +
+                    "WHERE MATCH(tuVung, hanTu, tiengViet) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<JlptVocabulary> fullTextSearchAll(@Param("query") String query, Pageable pageable);
+
+    @Query(value = "SELECT * FROM jlpt_vocabulary " +
+            "WHERE level = :level AND MATCH(tuVung, hanTu, tiengViet) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(tuVung, hanTu, tiengViet) AGAINST (:query IN BOOLEAN MODE) DESC, id",
+            countQuery = "SELECT COUNT(*) FROM jlpt_vocabulary " +
+                    "WHERE level = :level AND MATCH(tuVung, hanTu, tiengViet) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<JlptVocabulary> fullTextSearchByLevel(@Param("level") String level, @Param("query") String query,
+            Pageable pageable);
+
+    // Số từ theo từng level trong một query (nguồn cho bộ đếm cache)
+    @Query("SELECT v.level, COUNT(v) FROM JlptVocabulary v GROUP BY v.level")
+    List<Object[]> countGroupByLevel();
+
     // Đếm tổng số từ theo level (hữu ích cho pagination/info)
     long countByLevel(String level);
 
     // Đếm tổng số từ toàn bộ
     long count();
-}
\ No newline at end of file
+}
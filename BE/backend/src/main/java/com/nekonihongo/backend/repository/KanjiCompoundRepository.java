@@ -1,9 +1,11 @@
 package com.nekonihongo.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.nekonihongo.backend.entity.KanjiCompound;
@@ -13,4 +15,8 @@ public interface KanjiCompoundRepository extends JpaRepository<KanjiCompound, Lo
 
     @Query("SELECT c FROM KanjiCompound c WHERE c.kanji.id = :kanjiId ORDER BY c.displayOrder")
     List<KanjiCompound> findByKanjiIdOrderByDisplayOrder(Long kanjiId);
-}
\ No newline at end of file
+
+    // Query phẳng cho loader nhiều bước, không fetch kanji cha
+    @Query("SELECT c FROM KanjiCompound c WHERE c.kanji.id IN :kanjiIds ORDER BY c.displayOrder, c.id")
+    List<KanjiCompound> findByKanjiIdIn(@Param("kanjiIds") Collection<Long> kanjiIds);
+}
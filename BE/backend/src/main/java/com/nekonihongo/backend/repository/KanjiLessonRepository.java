@@ -1,9 +1,7 @@
 package com.nekonihongo.backend.repository;
 
 import java.util.List;
-import java.util.Optional;
 
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -18,17 +16,9 @@ public interface KanjiLessonRepository extends JpaRepository<KanjiLesson, Intege
                         """)
         List<KanjiLesson> findAllWithKanjiOnly();
 
-        @EntityGraph(attributePaths = { "kanjiList", "kanjiList.compounds" })
-        Optional<KanjiLesson> findById(Integer id);
-
-        @Query("""
-                        SELECT DISTINCT l
-                        FROM KanjiLesson l
-                        LEFT JOIN FETCH l.kanjiList k
-                        LEFT JOIN FETCH k.compounds
-                        ORDER BY l.displayOrder, k.displayOrder
-                        """)
-        List<KanjiLesson> findAllWithKanjiAndCompounds();
+        // Chỉ lấy bảng lesson; kanji và compounds được load bằng query riêng
+        // (xem KanjiLessonGraphLoader) thay vì JOIN FETCH hai collection cùng lúc
+        List<KanjiLesson> findAllByOrderByDisplayOrderAscIdAsc();
 
         @Query("SELECT COUNT(l) FROM KanjiLesson l")
         long countLessons();
@@ -0,0 +1,19 @@
+package com.nekonihongo.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nekonihongo.backend.entity.Kanji;
+
+@Repository
+public interface KanjiRepository extends JpaRepository<Kanji, Long> {
+
+    // Query phẳng, không fetch lesson/compounds (lesson chỉ dùng id từ khóa ngoại)
+    @Query("SELECT k FROM Kanji k WHERE k.lesson.id IN :lessonIds ORDER BY k.displayOrder, k.id")
+    List<Kanji> findByLessonIdIn(@Param("lessonIds") Collection<Integer> lessonIds);
+}
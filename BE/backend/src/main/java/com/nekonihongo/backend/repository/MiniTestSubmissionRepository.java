@@ -12,7 +12,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MiniTestSubmissionRepository extends JpaRepository<MiniTestSubmission, Long> {
+public interface MiniTestSubmissionRepository
+        extends JpaRepository<MiniTestSubmission, Long>, MiniTestSubmissionSearchRepository {
 
     // ADMIN: Đếm số bài pending (toàn hệ thống)
     long countByStatus(Status status);
@@ -0,0 +1,12 @@
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.MiniTestSubmission;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+// Fragment cho MiniTestSubmissionRepository: tìm kiếm có phân trang, không đọc cột answers
+public interface MiniTestSubmissionSearchRepository {
+
+    Page<MiniTestSubmissionSummary> searchSummaries(Specification<MiniTestSubmission> spec, Pageable pageable);
+}
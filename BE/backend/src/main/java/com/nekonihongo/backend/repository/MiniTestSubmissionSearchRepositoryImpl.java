@@ -0,0 +1,53 @@
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.MiniTestSubmission;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class MiniTestSubmissionSearchRepositoryImpl implements MiniTestSubmissionSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<MiniTestSubmissionSummary> searchSummaries(Specification<MiniTestSubmission> spec,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<MiniTestSubmissionSummary> query = cb.createQuery(MiniTestSubmissionSummary.class);
+        Root<MiniTestSubmission> root = query.from(MiniTestSubmission.class);
+        query.select(cb.construct(MiniTestSubmissionSummary.class,
+                root.get("id"), root.get("userId"), root.get("lessonId"), root.get("submittedAt"),
+                root.get("feedback"), root.get("feedbackAt"), root.get("status"), root.get("score"),
+                root.get("timeSpent")))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<MiniTestSubmissionSummary> pageQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            pageQuery.setFirstResult((int) pageable.getOffset());
+            pageQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<MiniTestSubmissionSummary> content = pageQuery.getResultList();
+
+        // Trang đầu chưa đầy thì đã biết tổng, khỏi chạy COUNT
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && content.size() < pageable.getPageSize())) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<MiniTestSubmission> countRoot = countQuery.from(MiniTestSubmission.class);
+        countQuery.select(cb.count(countRoot)).where(spec.toPredicate(countRoot, countQuery, cb));
+        return new PageImpl<>(content, pageable, entityManager.createQuery(countQuery).getSingleResult());
+    }
+}
@@ -0,0 +1,67 @@
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.GrammarLesson;
+import com.nekonihongo.backend.entity.MiniTestSubmission;
+import com.nekonihongo.backend.entity.MiniTestSubmission.Status;
+import com.nekonihongo.backend.entity.User;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Điều kiện lọc bài nộp mini test cho trang admin, chạy hoàn toàn trong SQL.
+ * Bảng submissions không có quan hệ JPA tới users/grammar_lessons nên phần
+ * keyword dùng subquery EXISTS theo user_id/lesson_id.
+ */
+public final class MiniTestSubmissionSpecifications {
+
+    private MiniTestSubmissionSpecifications() {
+    }
+
+    public static Specification<MiniTestSubmission> any() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<MiniTestSubmission> hasLessonId(Integer lessonId) {
+        return (root, query, cb) -> cb.equal(root.get("lessonId"), lessonId);
+    }
+
+    public static Specification<MiniTestSubmission> hasStatus(Status status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<MiniTestSubmission> hasUserId(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    /**
+     * Keyword khớp (không phân biệt hoa thường) tên/email/username của user,
+     * tiêu đề bài học hoặc một phần lesson id – giống bộ lọc cũ trong bộ nhớ.
+     */
+    public static Specification<MiniTestSubmission> matchesKeyword(String keyword) {
+        String pattern = "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> {
+            Subquery<Long> users = query.subquery(Long.class);
+            var user = users.from(User.class);
+            users.select(user.get("id")).where(
+                    cb.equal(user.get("id"), root.get("userId")),
+                    cb.or(cb.like(cb.lower(user.get("fullName")), pattern, '\\'),
+                            cb.like(cb.lower(user.get("email")), pattern, '\\'),
+                            cb.like(cb.lower(user.get("username")), pattern, '\\')));
+
+            Subquery<Integer> lessons = query.subquery(Integer.class);
+            var lesson = lessons.from(GrammarLesson.class);
+            lessons.select(lesson.get("id")).where(
+                    cb.equal(lesson.get("id"), root.get("lessonId")),
+                    cb.like(cb.lower(lesson.get("title")), pattern, '\\'));
+
+            return cb.or(cb.exists(users), cb.exists(lessons),
+                    cb.like(root.get("lessonId").as(String.class), pattern, '\\'));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,21 @@
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.MiniTestSubmission.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Các cột của mini_test_submissions trừ {@code answers} (JSON lớn), dùng cho
+ * danh sách/tìm kiếm của admin.
+ */
+public record MiniTestSubmissionSummary(
+        Long id,
+        Long userId,
+        Integer lessonId,
+        LocalDateTime submittedAt,
+        String feedback,
+        LocalDateTime feedbackAt,
+        Status status,
+        Integer score,
+        Integer timeSpent) {
+}
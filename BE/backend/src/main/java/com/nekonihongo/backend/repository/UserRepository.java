@@ -25,6 +25,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Đếm số user theo role (dùng cho dashboard admin)
     long countByRole(User.Role role);
 
+    // Chỉ đọc trạng thái/role/version token (kiểm tra nhanh cho request xác thực bằng JWT claims)
+    @Query("SELECT new com.nekonihongo.backend.repository.AccountState(u.status, u.role, u.tokenVersion) "
+            + "FROM User u WHERE u.id = :id")
+    Optional<AccountState> findAccountStateById(@Param("id") Long id);
+
     // Tìm user bằng username hoặc email (case-insensitive)
     Optional<User> findByUsernameIgnoreCaseOrEmailIgnoreCase(String username, String email);
 
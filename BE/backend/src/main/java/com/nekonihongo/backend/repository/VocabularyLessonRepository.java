@@ -0,0 +1,10 @@
+// src/main/java/com/nekonihongo/backend/repository/VocabularyLessonRepository.java
+package com.nekonihongo.backend.repository;
+
+import com.nekonihongo.backend.entity.VocabularyLesson;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VocabularyLessonRepository extends JpaRepository<VocabularyLesson, Integer> {
+}
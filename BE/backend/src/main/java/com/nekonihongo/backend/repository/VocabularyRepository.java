@@ -2,18 +2,24 @@
 package com.nekonihongo.backend.repository;
 
 import com.nekonihongo.backend.entity.Vocabulary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface VocabularyRepository extends JpaRepository<Vocabulary, Long> {
 
     List<Vocabulary> findByLessonIdOrderByIdAsc(Integer lessonId);
 
-    @Query("SELECT DISTINCT v.lessonId FROM Vocabulary v ORDER BY v.lessonId")
-    List<Integer> findAllLessonIds();
-
-    // Tìm kiếm từ vựng
-    List<Vocabulary> findByJapaneseContainingIgnoreCaseOrKanjiContainingIgnoreCaseOrVietnameseContainingIgnoreCase(
-            String japanese, String kanji, String vietnamese);
-}
\ No newline at end of file
+    // Một query duy nhất, đã sắp theo bài: đọc tuần tự và gom nhóm trong một lượt.
+    // Phải gọi trong transaction và đóng stream sau khi dùng.
+    @Query("SELECT v FROM Vocabulary v ORDER BY v.lessonId, v.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Vocabulary> streamAllOrderByLessonIdAndId();
+}
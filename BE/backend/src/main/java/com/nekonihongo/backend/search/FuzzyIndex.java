@@ -0,0 +1,294 @@
+package com.nekonihongo.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Index tìm kiếm gần đúng (chịu lỗi chính tả) trên các key đã
+ * {@link TextFolding#fold fold}: romaji gõ sai ("tabero"), nghĩa tiếng Việt gõ
+ * sai/thiếu chữ ("hoc sinh" → "học sinh", "an com" → "ăn cơm").
+ * <p>
+ * Các term (cả key lẫn từng từ trong key) nằm trong một trie lưu phẳng như
+ * {@link SuggestTrie}. Query đi xuống trie cùng một hàng DP Levenshtein cho mỗi
+ * độ sâu (có tính hoán vị hai ký tự kề nhau); nhánh nào có giá trị nhỏ nhất
+ * của hàng vượt ngưỡng thì bị cắt ngay, nên chỉ một phần rất nhỏ của trie được
+ * duyệt. Ngưỡng khoảng cách tăng theo độ dài query, tối đa 2.
+ */
+public final class FuzzyIndex {
+
+    public static final int MAX_DISTANCE = 2;
+
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[\\s,;/()~・、]+");
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] termAt;
+    private final int[] postingStart;
+    private final int[] postings;
+    private final int maxDepth;
+    private final int documentCount;
+
+    private FuzzyIndex(char[] labels, int[] firstChild, int[] childCount, int[] termAt, int[] postingStart,
+            int[] postings, int maxDepth, int documentCount) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.termAt = termAt;
+        this.postingStart = postingStart;
+        this.postings = postings;
+        this.maxDepth = maxDepth;
+        this.documentCount = documentCount;
+    }
+
+    /**
+     * @param documentKeys key đã chuẩn hóa của từng document (phần tử null được bỏ qua);
+     *                     vị trí trong list là doc id
+     */
+    public static FuzzyIndex build(List<String[]> documentKeys) {
+        BuildNode root = new BuildNode();
+        int nodeCount = 1;
+        int maxDepth = 0;
+        List<IntList> termDocs = new ArrayList<>();
+        for (int doc = 0; doc < documentKeys.size(); doc++) {
+            for (String key : documentKeys.get(doc)) {
+                if (key == null || key.isBlank()) {
+                    continue;
+                }
+                String[] tokens = TOKEN_SEPARATORS.split(key.trim());
+                for (int t = -1; t < tokens.length; t++) {
+                    // t = -1: cả key (query nhiều từ), sau đó từng từ
+                    String term = t < 0 ? key.trim() : tokens[t];
+                    if (term.isEmpty() || (t >= 0 && tokens.length == 1)) {
+                        continue;
+                    }
+                    BuildNode node = root;
+                    for (int i = 0; i < term.length(); i++) {
+                        BuildNode child = node.children.get(term.charAt(i));
+                        if (child == null) {
+                            child = new BuildNode();
+                            node.children.put(term.charAt(i), child);
+                            nodeCount++;
+                        }
+                        node = child;
+                    }
+                    maxDepth = Math.max(maxDepth, term.length());
+                    if (node.term < 0) {
+                        node.term = termDocs.size();
+                        termDocs.add(new IntList());
+                    }
+                    IntList docs = termDocs.get(node.term);
+                    // Doc đi vào theo thứ tự tăng dần nên chỉ cần so với phần tử cuối
+                    if (docs.size == 0 || docs.values[docs.size - 1] != doc) {
+                        docs.add(doc);
+                    }
+                }
+            }
+        }
+
+        char[] labels = new char[nodeCount];
+        int[] firstChild = new int[nodeCount];
+        int[] childCount = new int[nodeCount];
+        int[] termAt = new int[nodeCount];
+        ArrayDeque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int next = 1;
+        for (int id = 0; id < nodeCount; id++) {
+            BuildNode node = queue.poll();
+            termAt[id] = node.term;
+            firstChild[id] = next;
+            childCount[id] = node.children.size();
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                labels[next++] = child.getKey();
+                queue.add(child.getValue());
+            }
+        }
+
+        int[] postingStart = new int[termDocs.size() + 1];
+        int total = 0;
+        for (int term = 0; term < termDocs.size(); term++) {
+            postingStart[term] = total;
+            total += termDocs.get(term).size;
+        }
+        postingStart[termDocs.size()] = total;
+        int[] postings = new int[total];
+        for (int term = 0; term < termDocs.size(); term++) {
+            IntList docs = termDocs.get(term);
+            System.arraycopy(docs.values, 0, postings, postingStart[term], docs.size);
+        }
+        return new FuzzyIndex(labels, firstChild, childCount, termAt, postingStart, postings, maxDepth,
+                documentKeys.size());
+    }
+
+    public int size() {
+        return documentCount;
+    }
+
+    /**
+     * Ngưỡng khoảng cách cho query dài {@code length}: query ngắn chỉ cho phép ít
+     * lỗi, nếu không gần như term nào cũng khớp.
+     */
+    public static int maxDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 4 ? 1 : MAX_DISTANCE;
+    }
+
+    /**
+     * Tối đa {@code k} document có term gần {@code query} nhất, xếp theo khoảng
+     * cách rồi theo doc id (tức thứ tự ưu tiên của dữ liệu).
+     *
+     * @param query  query đã fold
+     * @param filter chỉ giữ các doc có bit bật; {@code null} = không lọc
+     */
+    public Matches search(String query, BitSet filter, int k) {
+        if (query == null || query.isBlank() || k <= 0) {
+            return Matches.EMPTY;
+        }
+        String q = query.trim();
+        int max = maxDistance(q.length());
+        Walk walk = new Walk(q, max, maxDepth);
+        walk.descend(0, 0, (char) 0);
+
+        IntList docs = new IntList();
+        IntList distances = new IntList();
+        BitSet seen = new BitSet(documentCount);
+        for (int distance = 0; distance <= max && docs.size < k; distance++) {
+            IntList terms = walk.termsByDistance[distance];
+            int bucketStart = docs.size;
+            for (int i = 0; i < terms.size; i++) {
+                int term = terms.values[i];
+                for (int p = postingStart[term]; p < postingStart[term + 1]; p++) {
+                    int doc = postings[p];
+                    if ((filter == null || filter.get(doc)) && !seen.get(doc)) {
+                        seen.set(doc);
+                        docs.add(doc);
+                    }
+                }
+            }
+            Arrays.sort(docs.values, bucketStart, docs.size);
+            for (int i = bucketStart; i < docs.size; i++) {
+                distances.add(distance);
+            }
+        }
+        int size = Math.min(k, docs.size);
+        return new Matches(Arrays.copyOf(docs.values, size), Arrays.copyOf(distances.values, size));
+    }
+
+    /**
+     * Nối sau {@code ranked} (kết quả exact/prefix/substring) tối đa {@code k}
+     * document khớp gần đúng chưa có trong đó.
+     */
+    public int[] extend(int[] ranked, String query, BitSet filter, int k) {
+        Matches matches = search(query, filter, k + ranked.length);
+        if (matches.size() == 0) {
+            return ranked;
+        }
+        BitSet present = new BitSet(documentCount);
+        for (int doc : ranked) {
+            present.set(doc);
+        }
+        int[] result = Arrays.copyOf(ranked, ranked.length + Math.min(k, matches.size()));
+        int size = ranked.length;
+        for (int i = 0; i < matches.size() && size < result.length; i++) {
+            if (!present.get(matches.doc(i))) {
+                result[size++] = matches.doc(i);
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Trạng thái một lần duyệt: hàng DP cho mỗi độ sâu được cấp phát một lần.
+     */
+    private final class Walk {
+        private final String query;
+        private final int max;
+        private final int[][] rows;
+        private final IntList[] termsByDistance;
+
+        Walk(String query, int max, int maxDepth) {
+            this.query = query;
+            this.max = max;
+            this.rows = new int[maxDepth + 1][query.length() + 1];
+            for (int j = 0; j <= query.length(); j++) {
+                rows[0][j] = j;
+            }
+            this.termsByDistance = new IntList[max + 1];
+            for (int d = 0; d <= max; d++) {
+                termsByDistance[d] = new IntList();
+            }
+        }
+
+        void descend(int node, int depth, char parentLabel) {
+            int n = query.length();
+            int[] prev = rows[depth];
+            int[] cur = rows[depth + 1];
+            int end = firstChild[node] + childCount[node];
+            for (int child = firstChild[node]; child < end; child++) {
+                char c = labels[child];
+                cur[0] = depth + 1;
+                int rowMin = cur[0];
+                for (int j = 1; j <= n; j++) {
+                    char qc = query.charAt(j - 1);
+                    int cost = qc == c ? 0 : 1;
+                    int value = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                    // Hoán vị hai ký tự kề nhau ("tbaeru") tính là một lỗi
+                    if (depth > 0 && j > 1 && qc == parentLabel && query.charAt(j - 2) == c) {
+                        value = Math.min(value, rows[depth - 1][j - 2] + 1);
+                    }
+                    cur[j] = value;
+                    rowMin = Math.min(rowMin, value);
+                }
+                int term = termAt[child];
+                if (term >= 0 && cur[n] <= max) {
+                    termsByDistance[cur[n]].add(term);
+                }
+                if (rowMin <= max && depth + 1 < rows.length - 1) {
+                    descend(child, depth + 1, c);
+                }
+            }
+        }
+    }
+
+    public record Matches(int[] docs, int[] distances) {
+
+        static final Matches EMPTY = new Matches(new int[0], new int[0]);
+
+        public int size() {
+            return docs.length;
+        }
+
+        public int doc(int i) {
+            return docs[i];
+        }
+
+        public int distance(int i) {
+            return distances[i];
+        }
+    }
+
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private int term = -1;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
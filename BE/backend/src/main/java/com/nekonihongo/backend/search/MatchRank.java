@@ -0,0 +1,10 @@
+package com.nekonihongo.backend.search;
+
+/**
+ * Mức độ khớp của một kết quả tìm kiếm, theo thứ tự ưu tiên giảm dần.
+ */
+public enum MatchRank {
+    EXACT,
+    PREFIX,
+    SUBSTRING
+}
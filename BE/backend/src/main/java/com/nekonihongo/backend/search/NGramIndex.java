@@ -0,0 +1,304 @@
+package com.nekonihongo.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index theo bigram ký tự (và unigram cho query một ký tự) trên một
+ * tập document bất biến. Mỗi document có nhiều key đã được chuẩn hóa sẵn; query
+ * phải được chuẩn hóa theo cùng cách.
+ * <p>
+ * Tìm kiếm = giao các posting list của bigram trong query, sau đó xác nhận lại
+ * bằng {@code contains} trên key của các ứng viên (bigram chỉ là điều kiện
+ * cần). Kết quả được xếp EXACT &gt; PREFIX &gt; SUBSTRING, cùng hạng thì theo
+ * thứ tự document.
+ */
+public final class NGramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final String[][] keys;
+    private final Map<String, int[]> postings;
+
+    private NGramIndex(String[][] keys, Map<String, int[]> postings) {
+        this.keys = keys;
+        this.postings = postings;
+    }
+
+    /**
+     * @param documentKeys key đã chuẩn hóa của từng document; index của phần tử
+     *                     là id của document
+     */
+    public static NGramIndex build(List<String[]> documentKeys) {
+        String[][] keys = new String[documentKeys.size()][];
+        Map<String, IntList> lists = new HashMap<>();
+        for (int doc = 0; doc < keys.length; doc++) {
+            String[] docKeys = Arrays.stream(documentKeys.get(doc))
+                    .filter(k -> k != null && !k.isEmpty())
+                    .distinct()
+                    .toArray(String[]::new);
+            keys[doc] = docKeys;
+            for (String gram : grams(docKeys)) {
+                // Document được thêm theo thứ tự tăng dần nên posting luôn đã sắp xếp
+                lists.computeIfAbsent(gram, g -> new IntList()).addIfLast(doc);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+        lists.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new NGramIndex(keys, postings);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @param query  query đã chuẩn hóa
+     * @param filter chỉ giữ document có bit bật; {@code null} = không lọc
+     */
+    public Hits search(String query, BitSet filter) {
+        if (query == null || query.isEmpty()) {
+            return Hits.EMPTY;
+        }
+        int[] candidates = candidates(query);
+        // Query ≤ 2 ký tự: posting của n-gram đã đảm bảo có key chứa query
+        boolean verified = query.length() <= 2;
+
+        IntList exact = new IntList();
+        IntList prefix = new IntList();
+        IntList substring = new IntList();
+        for (int doc : candidates) {
+            if (filter != null && !filter.get(doc)) {
+                continue;
+            }
+            MatchRank rank = rank(keys[doc], query, verified);
+            if (rank == MatchRank.EXACT) {
+                exact.add(doc);
+            } else if (rank == MatchRank.PREFIX) {
+                prefix.add(doc);
+            } else if (rank == MatchRank.SUBSTRING) {
+                substring.add(doc);
+            }
+        }
+        int[] docs = new int[exact.size + prefix.size + substring.size];
+        System.arraycopy(exact.values, 0, docs, 0, exact.size);
+        System.arraycopy(prefix.values, 0, docs, exact.size, prefix.size);
+        System.arraycopy(substring.values, 0, docs, exact.size + prefix.size, substring.size);
+        return new Hits(docs, exact.size, prefix.size, docs.length);
+    }
+
+    /**
+     * Như {@link #search} nhưng chỉ giữ {@code k} kết quả tốt nhất bằng một heap
+     * giới hạn kích thước, không dựng toàn bộ danh sách khớp. {@link Hits#total()}
+     * vẫn là tổng số document khớp.
+     */
+    public Hits top(String query, BitSet filter, int k) {
+        if (query == null || query.isEmpty() || k <= 0) {
+            return Hits.EMPTY;
+        }
+        int[] candidates = candidates(query);
+        boolean verified = query.length() <= 2;
+
+        // Max-heap theo score = (hạng << 32) | doc; score nhỏ hơn là tốt hơn
+        long[] heap = new long[k];
+        int size = 0;
+        int total = 0;
+        for (int doc : candidates) {
+            if (filter != null && !filter.get(doc)) {
+                continue;
+            }
+            MatchRank rank = rank(keys[doc], query, verified);
+            if (rank == null) {
+                continue;
+            }
+            total++;
+            long score = ((long) rank.ordinal() << 32) | doc;
+            if (size < k) {
+                heap[size] = score;
+                siftUp(heap, size++);
+            } else if (score < heap[0]) {
+                heap[0] = score;
+                siftDown(heap, size);
+            }
+        }
+
+        Arrays.sort(heap, 0, size);
+        int[] docs = new int[size];
+        int exactCount = 0;
+        int prefixCount = 0;
+        for (int i = 0; i < size; i++) {
+            docs[i] = (int) heap[i];
+            int rank = (int) (heap[i] >>> 32);
+            if (rank == MatchRank.EXACT.ordinal()) {
+                exactCount++;
+            } else if (rank == MatchRank.PREFIX.ordinal()) {
+                prefixCount++;
+            }
+        }
+        return new Hits(docs, exactCount, prefixCount, total);
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] >= heap[i]) {
+                return;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int i = 0;
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && heap[left] > heap[largest]) {
+                largest = left;
+            }
+            if (right < size && heap[right] > heap[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(heap, i, largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(long[] heap, int a, int b) {
+        long tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private int[] candidates(String query) {
+        if (query.length() == 1) {
+            return postings.getOrDefault(query, EMPTY);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return EMPTY;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static MatchRank rank(String[] docKeys, String query, boolean verified) {
+        MatchRank best = verified ? MatchRank.SUBSTRING : null;
+        for (String key : docKeys) {
+            if (key.equals(query)) {
+                return MatchRank.EXACT;
+            }
+            if (key.startsWith(query)) {
+                best = MatchRank.PREFIX;
+            } else if (best == null && key.contains(query)) {
+                best = MatchRank.SUBSTRING;
+            }
+        }
+        return best;
+    }
+
+    // Giao hai mảng đã sắp xếp; mảng ngắn đi trước, mảng dài được tìm nhị phân
+    private static int[] intersect(int[] small, int[] large) {
+        int[] out = new int[small.length];
+        int n = 0;
+        int from = 0;
+        for (int doc : small) {
+            int idx = Arrays.binarySearch(large, from, large.length, doc);
+            if (idx >= 0) {
+                out[n++] = doc;
+                from = idx + 1;
+            } else {
+                from = -idx - 1;
+                if (from >= large.length) {
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static Set<String> grams(String[] docKeys) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String key : docKeys) {
+            for (int i = 0; i < key.length(); i++) {
+                grams.add(key.substring(i, i + 1));
+                if (i + 1 < key.length()) {
+                    grams.add(key.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Kết quả đã xếp hạng: {@code docs} gồm các document EXACT, rồi PREFIX, rồi
+     * SUBSTRING; trong mỗi nhóm theo thứ tự document. {@code total} là tổng số
+     * document khớp (có thể lớn hơn số phần tử của {@code docs} khi dùng top-k).
+     */
+    public record Hits(int[] docs, int exactCount, int prefixCount, int total) {
+
+        static final Hits EMPTY = new Hits(new int[0], 0, 0, 0);
+
+        public int size() {
+            return docs.length;
+        }
+
+        public int doc(int i) {
+            return docs[i];
+        }
+
+        public MatchRank rank(int i) {
+            if (i < exactCount) {
+                return MatchRank.EXACT;
+            }
+            return i < exactCount + prefixCount ? MatchRank.PREFIX : MatchRank.SUBSTRING;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addIfLast(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            add(value);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
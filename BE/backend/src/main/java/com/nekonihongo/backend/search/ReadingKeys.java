@@ -0,0 +1,57 @@
+package com.nekonihongo.backend.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tách chuỗi nhiều cách đọc của kanji ("ジン、ニン", "ひと; -り", "Nhân, Nhơn")
+ * thành các key tra cứu đã {@link TextFolding#fold fold}. On/kun về cùng dạng
+ * hiragana (kèm key romaji), Hán Việt bỏ dấu; cách đọc có okurigana
+ * ("ひと.つ") sinh cả key đầy đủ lẫn phần gốc trước dấu chấm.
+ */
+public final class ReadingKeys {
+
+    // Dấu phân cách hay gặp trong dữ liệu: phẩy/chấm phẩy/gạch chéo (ASCII, full-width, tiếng Nhật) và khoảng trắng
+    private static final Pattern SEPARATORS = Pattern.compile("[,、，;；/／・|\\s]+");
+
+    private ReadingKeys() {
+    }
+
+    public static Set<String> of(String readings) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (readings == null) {
+            return keys;
+        }
+        for (String part : SEPARATORS.split(TextFolding.fold(readings))) {
+            // "-" đánh dấu tiền/hậu tố (-り, お-), "()" bao okurigana ở một số nguồn
+            String reading = part.replace("-", "").replace("(", ".").replace(")", "");
+            int dot = reading.indexOf('.');
+            if (dot >= 0) {
+                add(keys, reading.substring(0, dot));
+                reading = reading.replace(".", "");
+            }
+            add(keys, reading);
+        }
+        return keys;
+    }
+
+    /**
+     * Key cho một query: cùng chuẩn hóa với dữ liệu, bỏ dấu chấm okurigana.
+     */
+    public static String query(String reading) {
+        String folded = TextFolding.fold(reading);
+        return folded == null ? "" : folded.replace("-", "").replace(".", "").trim();
+    }
+
+    private static void add(Set<String> keys, String reading) {
+        if (reading.isEmpty()) {
+            return;
+        }
+        keys.add(reading);
+        String romaji = TextFolding.romaji(reading);
+        if (romaji != null && !romaji.equals(reading)) {
+            keys.add(romaji);
+        }
+    }
+}
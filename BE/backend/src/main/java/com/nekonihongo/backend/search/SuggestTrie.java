@@ -0,0 +1,154 @@
+package com.nekonihongo.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Trie tiền tố bất biến, lưu phẳng trong các mảng nguyên thủy, dùng cho gợi ý
+ * autocomplete.
+ * <p>
+ * Entry phải được truyền vào theo thứ tự ưu tiên (entry 0 là tốt nhất). Mỗi node
+ * lưu sẵn tối đa {@code k} entry tốt nhất trong cây con của nó, nên một lần gợi
+ * ý chỉ là đi theo các ký tự của prefix (tìm nhị phân trong dải con liên tiếp)
+ * rồi đọc một đoạn mảng; không duyệt cây con, không cấp phát ngoài mảng kết quả.
+ */
+public final class SuggestTrie {
+
+    private final int k;
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] top;
+
+    private SuggestTrie(int k, char[] labels, int[] firstChild, int[] childCount, int[] topStart, int[] top) {
+        this.k = k;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    /**
+     * @param entryKeys key đã chuẩn hóa của từng entry, theo thứ tự ưu tiên giảm dần
+     * @param k         số gợi ý tối đa lưu ở mỗi node
+     */
+    public static SuggestTrie build(List<String[]> entryKeys, int k) {
+        BuildNode root = new BuildNode();
+        int nodeCount = 1;
+        for (int entry = 0; entry < entryKeys.size(); entry++) {
+            for (String key : entryKeys.get(entry)) {
+                if (key == null || key.isEmpty()) {
+                    continue;
+                }
+                BuildNode node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    BuildNode child = node.children.get(key.charAt(i));
+                    if (child == null) {
+                        child = new BuildNode();
+                        node.children.put(key.charAt(i), child);
+                        nodeCount++;
+                    }
+                    node = child;
+                    // Entry đi vào theo thứ tự ưu tiên nên top của node luôn đã sắp xếp;
+                    // chỉ cần chặn trùng (cùng entry qua nhiều key) và giới hạn k
+                    if (node.topSize < k && (node.topSize == 0 || node.top[node.topSize - 1] != entry)) {
+                        node.addTop(entry, k);
+                    }
+                }
+            }
+        }
+
+        // Duyệt BFS để các con của một node nằm liên tiếp trong mảng
+        char[] labels = new char[nodeCount];
+        int[] firstChild = new int[nodeCount];
+        int[] childCount = new int[nodeCount];
+        int[] topStart = new int[nodeCount + 1];
+        int[] top = new int[Math.max(16, nodeCount * 2)];
+        int topSize = 0;
+
+        ArrayDeque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int next = 1;
+        for (int id = 0; id < nodeCount; id++) {
+            BuildNode node = queue.poll();
+            topStart[id] = topSize;
+            if (topSize + node.topSize > top.length) {
+                top = Arrays.copyOf(top, Math.max(top.length * 2, topSize + node.topSize));
+            }
+            System.arraycopy(node.top, 0, top, topSize, node.topSize);
+            topSize += node.topSize;
+
+            firstChild[id] = next;
+            childCount[id] = node.children.size();
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                labels[next++] = child.getKey();
+                queue.add(child.getValue());
+            }
+        }
+        topStart[nodeCount] = topSize;
+        return new SuggestTrie(k, labels, firstChild, childCount, topStart, Arrays.copyOf(top, topSize));
+    }
+
+    public int maxSuggestions() {
+        return k;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    /**
+     * Ghi tối đa {@code out.length} entry tốt nhất có key bắt đầu bằng
+     * {@code prefix} vào {@code out}; trả về số entry đã ghi.
+     */
+    public int complete(String prefix, int[] out) {
+        if (prefix == null || prefix.isEmpty()) {
+            return 0;
+        }
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = child(node, prefix.charAt(i));
+            if (node < 0) {
+                return 0;
+            }
+        }
+        int count = Math.min(out.length, topStart[node + 1] - topStart[node]);
+        System.arraycopy(top, topStart[node], out, 0, count);
+        return count;
+    }
+
+    private int child(int node, char label) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char c = labels[mid];
+            if (c < label) {
+                lo = mid + 1;
+            } else if (c > label) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private int[] top = new int[0];
+        private int topSize;
+
+        void addTop(int entry, int k) {
+            if (topSize == top.length) {
+                top = Arrays.copyOf(top, Math.min(k, Math.max(2, topSize * 2)));
+            }
+            top[topSize++] = entry;
+        }
+    }
+}
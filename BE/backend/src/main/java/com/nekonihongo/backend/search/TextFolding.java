@@ -0,0 +1,140 @@
+package com.nekonihongo.backend.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Chuẩn hóa chuỗi thành key tìm kiếm để "タベル", "たべる", "taberu" hay "an"
+ * (cho "ăn") cùng khớp. Chạy một lần khi build index cho dữ liệu và một lần cho
+ * mỗi query; việc so khớp vẫn chỉ là tra index.
+ * <ul>
+ * <li>NFKC: full-width → half-width, katakana half-width → full-width</li>
+ * <li>chữ thường, gộp khoảng trắng</li>
+ * <li>bỏ dấu tiếng Việt (kể cả đ → d)</li>
+ * <li>katakana → hiragana</li>
+ * </ul>
+ * {@link #romaji(String)} chuyển thêm chuỗi kana đã fold sang romaji Hepburn để
+ * lưu như một key riêng.
+ */
+public final class TextFolding {
+
+    private static final Map<Character, String> ROMAJI = new HashMap<>();
+
+    static {
+        String[][] table = {
+                { "あ", "a" }, { "い", "i" }, { "う", "u" }, { "え", "e" }, { "お", "o" },
+                { "か", "ka" }, { "き", "ki" }, { "く", "ku" }, { "け", "ke" }, { "こ", "ko" },
+                { "が", "ga" }, { "ぎ", "gi" }, { "ぐ", "gu" }, { "げ", "ge" }, { "ご", "go" },
+                { "さ", "sa" }, { "し", "shi" }, { "す", "su" }, { "せ", "se" }, { "そ", "so" },
+                { "ざ", "za" }, { "じ", "ji" }, { "ず", "zu" }, { "ぜ", "ze" }, { "ぞ", "zo" },
+                { "た", "ta" }, { "ち", "chi" }, { "つ", "tsu" }, { "て", "te" }, { "と", "to" },
+                { "だ", "da" }, { "ぢ", "ji" }, { "づ", "zu" }, { "で", "de" }, { "ど", "do" },
+                { "な", "na" }, { "に", "ni" }, { "ぬ", "nu" }, { "ね", "ne" }, { "の", "no" },
+                { "は", "ha" }, { "ひ", "hi" }, { "ふ", "fu" }, { "へ", "he" }, { "ほ", "ho" },
+                { "ば", "ba" }, { "び", "bi" }, { "ぶ", "bu" }, { "べ", "be" }, { "ぼ", "bo" },
+                { "ぱ", "pa" }, { "ぴ", "pi" }, { "ぷ", "pu" }, { "ぺ", "pe" }, { "ぽ", "po" },
+                { "ま", "ma" }, { "み", "mi" }, { "む", "mu" }, { "め", "me" }, { "も", "mo" },
+                { "や", "ya" }, { "ゆ", "yu" }, { "よ", "yo" },
+                { "ら", "ra" }, { "り", "ri" }, { "る", "ru" }, { "れ", "re" }, { "ろ", "ro" },
+                { "わ", "wa" }, { "ゐ", "i" }, { "ゑ", "e" }, { "を", "o" }, { "ん", "n" },
+                { "ゔ", "vu" },
+                { "ぁ", "a" }, { "ぃ", "i" }, { "ぅ", "u" }, { "ぇ", "e" }, { "ぉ", "o" },
+                { "ゃ", "ya" }, { "ゅ", "yu" }, { "ょ", "yo" }, { "ゎ", "wa" },
+        };
+        for (String[] entry : table) {
+            ROMAJI.put(entry[0].charAt(0), entry[1]);
+        }
+    }
+
+    private TextFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return null;
+        }
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        // Tách dấu rồi bỏ combining mark Latin (U+0300–U+036F); dakuten của kana
+        // (U+3099/U+309A) nằm ngoài khoảng này nên được ghép lại ở bước NFC
+        s = Normalizer.normalize(s, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean space = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '\u0300' && c <= '\u036F') {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+                continue;
+            }
+            if (space) {
+                sb.append(' ');
+                space = false;
+            }
+            if (c == 'đ') {
+                c = 'd';
+            } else if (c >= 'ァ' && c <= 'ヶ') {
+                c = (char) (c - 0x60);
+            }
+            sb.append(c);
+        }
+        return Normalizer.normalize(sb, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Romaji Hepburn của một chuỗi hiragana đã fold; {@code null} nếu chuỗi có ký
+     * tự không phải kana (ví dụ kanji), vì romaji một phần sẽ gây khớp sai.
+     */
+    public static String romaji(String kana) {
+        if (kana == null || kana.isEmpty()) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(kana.length() * 2);
+        boolean doubleNext = false;
+        for (int i = 0; i < kana.length(); i++) {
+            char c = kana.charAt(i);
+            if (c == 'っ') {
+                doubleNext = true;
+                continue;
+            }
+            if (c == 'ー') {
+                char last = out.length() > 0 ? out.charAt(out.length() - 1) : 0;
+                if ("aiueo".indexOf(last) >= 0) {
+                    out.append(last);
+                }
+                continue;
+            }
+            if (c == ' ') {
+                out.append(' ');
+                continue;
+            }
+            String syllable = ROMAJI.get(c);
+            if (syllable == null) {
+                return null;
+            }
+            // Âm ghép: き + ゃ → kya, し + ゃ → sha, ふ + ぁ → fa
+            if (i + 1 < kana.length() && isSmall(kana.charAt(i + 1)) && syllable.length() > 1) {
+                String small = ROMAJI.get(kana.charAt(i + 1));
+                String stem = syllable.substring(0, syllable.length() - 1);
+                if (small.startsWith("y") && (stem.equals("sh") || stem.equals("ch") || stem.equals("j"))) {
+                    small = small.substring(1);
+                }
+                syllable = stem + small;
+                i++;
+            }
+            if (doubleNext) {
+                out.append(syllable.startsWith("ch") ? 't' : syllable.charAt(0));
+                doubleNext = false;
+            }
+            out.append(syllable);
+        }
+        return out.toString();
+    }
+
+    private static boolean isSmall(char c) {
+        return "ぁぃぅぇぉゃゅょゎ".indexOf(c) >= 0;
+    }
+}
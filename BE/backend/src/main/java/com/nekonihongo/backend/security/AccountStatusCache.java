@@ -0,0 +1,67 @@
+package com.nekonihongo.backend.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nekonihongo.backend.repository.AccountState;
+import com.nekonihongo.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Trạng thái, role và version token theo userId, cache ngắn hạn để request đã
+ * xác thực bằng JWT claims vẫn chặn được user bị khóa/đổi quyền mà không phải
+ * đọc bảng users mỗi lần.
+ * <p>
+ * Mọi chỗ sửa user gọi {@link #invalidate(Long)} nên thay đổi có hiệu lực ngay
+ * trên node xử lý; TTL là chặn trên cho các node còn lại và cho dữ liệu sửa
+ * thẳng trong DB. Metric: {@code cache.gets} (hit/miss), {@code cache.evictions}...
+ * với tag {@code cache=account-state}.
+ */
+@Component
+public class AccountStatusCache {
+
+    public static final String CACHE_NAME = "account-state";
+
+    private final LoadingCache<Long, Optional<AccountState>> cache;
+
+    public AccountStatusCache(UserRepository userRepository,
+            @Value("${app.security.account-status-cache.ttl-seconds:10}") long ttlSeconds,
+            @Value("${app.security.account-status-cache.max-size:100000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(userRepository::findAccountStateById);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    // Optional.empty() khi user không còn tồn tại
+    public Optional<AccountState> get(Long userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * Bỏ entry của user. Nếu đang trong transaction thì bỏ thêm một lần sau
+     * commit, tránh trường hợp request khác nạp lại giá trị cũ trước khi commit.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
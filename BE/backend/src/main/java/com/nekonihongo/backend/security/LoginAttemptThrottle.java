@@ -0,0 +1,107 @@
+package com.nekonihongo.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nekonihongo.backend.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Giới hạn số lần thử đăng nhập theo email và theo IP trong một cửa sổ cố định.
+ * Theo IP chỉ đếm lần sai mật khẩu: cả lớp học sau một NAT đăng nhập đúng cùng
+ * lúc vẫn không bị chặn.
+ * <p>
+ * Bộ đếm nằm trong map của Caffeine (ConcurrentHashMap khóa theo từng bin) nên
+ * các request khác key không chặn nhau; {@code compute} cập nhật nguyên tử từng
+ * key. Số key bị chặn bởi {@code max-keys}, key không dùng tự hết hạn sau một
+ * cửa sổ. Bị chặn khi vượt giới hạn: 429 với Retry-After là thời gian còn lại
+ * của cửa sổ.
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private record Window(long startMillis, int attempts) {
+    }
+
+    private final ConcurrentMap<String, Window> byEmail;
+    private final ConcurrentMap<String, Window> byIp;
+    private final int maxPerEmail;
+    private final int maxPerIp;
+    private final long windowMillis;
+
+    public LoginAttemptThrottle(
+            @Value("${app.security.login.max-attempts-per-email:10}") int maxPerEmail,
+            @Value("${app.security.login.max-attempts-per-ip:50}") int maxPerIp,
+            @Value("${app.security.login.window-seconds:300}") long windowSeconds,
+            @Value("${app.security.login.max-keys:100000}") long maxKeys) {
+        this.maxPerEmail = maxPerEmail;
+        this.maxPerIp = maxPerIp;
+        this.windowMillis = Duration.ofSeconds(windowSeconds).toMillis();
+        this.byEmail = newCounterMap(windowSeconds, maxKeys);
+        this.byIp = newCounterMap(windowSeconds, maxKeys);
+    }
+
+    private static ConcurrentMap<String, Window> newCounterMap(long windowSeconds, long maxKeys) {
+        Cache<String, Window> cache = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+        return cache.asMap();
+    }
+
+    /**
+     * Ghi nhận một lần thử cho email và kiểm tra số lần sai của IP.
+     *
+     * @throws TooManyRequestsException email hoặc IP đã vượt giới hạn trong cửa sổ hiện tại
+     */
+    public void acquire(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (email != null) {
+            check(byEmail, email.trim().toLowerCase(Locale.ROOT), maxPerEmail, now);
+        }
+        if (clientIp != null) {
+            Window window = byIp.get(clientIp);
+            if (window != null && now - window.startMillis() < windowMillis && window.attempts() >= maxPerIp) {
+                throw tooManyAttempts(window, now);
+            }
+        }
+    }
+
+    // Sai email/mật khẩu: tính một lần thử cho IP
+    public void recordFailure(String clientIp) {
+        if (clientIp != null) {
+            increment(byIp, clientIp, System.currentTimeMillis());
+        }
+    }
+
+    // Đăng nhập thành công: xóa bộ đếm của email (IP chỉ đếm lần sai nên không cần đụng)
+    public void reset(String email) {
+        if (email != null) {
+            byEmail.remove(email.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void check(ConcurrentMap<String, Window> counters, String key, int max, long now) {
+        Window window = increment(counters, key, now);
+        if (window.attempts() > max) {
+            throw tooManyAttempts(window, now);
+        }
+    }
+
+    private Window increment(ConcurrentMap<String, Window> counters, String key, long now) {
+        return counters.compute(key, (k, current) -> current == null
+                || now - current.startMillis() >= windowMillis
+                        ? new Window(now, 1)
+                        : new Window(current.startMillis(), current.attempts() + 1));
+    }
+
+    private TooManyRequestsException tooManyAttempts(Window window, long now) {
+        long remainingMillis = window.startMillis() + windowMillis - now;
+        return new TooManyRequestsException("Too many login attempts, please try again later",
+                Math.max(1, (remainingMillis + 999) / 1000));
+    }
+}
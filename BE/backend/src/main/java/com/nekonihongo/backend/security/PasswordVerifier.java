@@ -0,0 +1,97 @@
+package com.nekonihongo.backend.security;
+
+import com.nekonihongo.backend.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Chạy BCrypt trên pool riêng, số thread bằng số core và hàng đợi có giới hạn.
+ * <p>
+ * Mỗi lần BCrypt chiếm trọn một core vài chục ms; nếu chạy trên thread Tomcat thì
+ * một đợt login dồn dập (đầu giờ học, tấn công dò mật khẩu) giữ hết worker và
+ * các API đọc catalog bị đói. Ở đây tối đa {@code threads} phép băm chạy song
+ * song; khi hàng đợi đầy hoặc chờ quá {@code timeout-ms}, request nhận 503 kèm
+ * Retry-After ngay. Metric: {@code executor.*} với tag {@code name=bcrypt}.
+ */
+@Component
+public class PasswordVerifier {
+
+    private static final String EXECUTOR_NAME = "bcrypt";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+            @Value("${app.security.login.bcrypt-threads:0}") int threads,
+            @Value("${app.security.login.bcrypt-queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.login.bcrypt-timeout-ms:5000}") long timeoutMs,
+            @Value("${app.security.login.retry-after-seconds:5}") long retryAfterSeconds,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        // 0 = số core: thêm thread cũng không băm nhanh hơn, chỉ tranh CPU với request khác
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("bcrypt-");
+        this.executor.initialize();
+        meterRegistry.ifAvailable(registry -> ExecutorServiceMetrics.monitor(registry,
+                executor.getThreadPoolExecutor(), EXECUTOR_NAME, List.of()));
+    }
+
+    /**
+     * {@link PasswordEncoder#matches} trên pool BCrypt.
+     *
+     * @throws ServiceOverloadedException hàng đợi đầy hoặc chờ quá lâu
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (TaskRejectedException e) {
+            throw overloaded();
+        }
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Server is busy, please try again later", retryAfterSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -3,6 +3,7 @@
 package com.nekonihongo.backend.security;
 
 import com.nekonihongo.backend.entity.User;
+import com.nekonihongo.backend.entity.User.Role;
 import com.nekonihongo.backend.entity.User.Status;
 
 import org.springframework.security.core.GrantedAuthority;
@@ -14,34 +15,65 @@ import java.util.List;
 
 public class UserPrincipal implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Role role;
+    private final Status status;
+    private final User user; // null khi principal được dựng từ JWT claims
 
     // Constructor nhận entity User
     public UserPrincipal(User user) {
+        this(user.getId(), user.getEmail(), user.getPassword(), user.getRole(), user.getStatus(), user);
+    }
+
+    private UserPrincipal(Long id, String email, String password, Role role, Status status, User user) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.status = status;
         this.user = user;
     }
 
+    /**
+     * Dựng principal từ claims của JWT đã verify (không truy vấn bảng users).
+     * Trạng thái tài khoản được kiểm tra riêng qua {@link AccountStatusCache}.
+     */
+    public static UserPrincipal fromClaims(Long id, String email, Role role, Status status) {
+        return new UserPrincipal(id, email, null, role, status, null);
+    }
+
     // Lấy user id (dùng trong service để getCurrentUserId)
     public Long getId() {
-        return user.getId();
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Role getRole() {
+        return role;
     }
 
     // Authorities: Vì User entity chỉ có 1 role (enum Role), trả về list với 1
     // authority
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        String roleName = user.getRole().name(); // "USER" hoặc "ADMIN"
+        String roleName = role.name(); // "USER" hoặc "ADMIN"
         return List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
+    // Email là định danh trong JWT (subject) và Authentication#getName()
     @Override
     public String getUsername() {
-        return user.getUsername(); // Hoặc user.getEmail() nếu dùng email làm username
+        return email;
     }
 
     // Các method kiểm tra trạng thái tài khoản
@@ -52,7 +84,7 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.getStatus() != Status.BANNED; // BANNED thì locked
+        return status != Status.BANNED; // BANNED thì locked
     }
 
     @Override
@@ -62,11 +94,11 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getStatus() == Status.ACTIVE; // Chỉ ACTIVE mới enabled
+        return status == Status.ACTIVE; // Chỉ ACTIVE mới enabled
     }
 
-    // Optional: Getter cho entity User nếu cần
+    // Optional: Getter cho entity User nếu cần (null với principal dựng từ claims)
     public User getUser() {
         return user;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.nekonihongo.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claims của các JWT đã verify, để cùng một token gửi lại nhiều lần (frontend
+ * poll nhiều endpoint mỗi trang) không phải tính lại HMAC và parse JSON.
+ * <p>
+ * Key là hash 64-bit của chuỗi token; entry giữ cả token gốc và chỉ được dùng
+ * khi trùng khớp hoàn toàn, nên va chạm hash chỉ gây cache miss chứ không bao
+ * giờ trả claims của token khác. Mỗi entry hết hạn đúng lúc token hết hạn
+ * ({@code exp}); tổng số entry bị chặn bởi {@code maxSize}. Caffeine cho phép
+ * mọi thread Tomcat đọc/ghi đồng thời. Claims của JJWT là bất biến nên dùng
+ * chung giữa các request được.
+ */
+public final class VerifiedTokenCache {
+
+    private record Entry(String token, Claims claims, long expiresAtMillis) {
+    }
+
+    private final Cache<Long, Entry> cache;
+
+    public VerifiedTokenCache(long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Long key, Entry entry, long currentTime) {
+                        return remainingNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, Entry entry, long currentTime, long currentDuration) {
+                        return remainingNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Claims đã verify của {@code token}, hoặc null nếu chưa có/đã hết hạn.
+     */
+    public Claims get(String token) {
+        Entry entry = cache.getIfPresent(hash(token));
+        if (entry == null || !entry.token().equals(token)) {
+            return null;
+        }
+        // Timer của Caffeine có độ trễ nhỏ: kiểm tra lại exp chính xác tới ms
+        return System.currentTimeMillis() < entry.expiresAtMillis() ? entry.claims() : null;
+    }
+
+    // Chỉ gọi sau khi token đã verify thành công; token không có exp thì không cache
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        cache.put(hash(token), new Entry(token, claims, expiration.getTime()));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static long remainingNanos(Entry entry) {
+        long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    // FNV-1a 64-bit: đủ nhanh và phân bố tốt cho chuỗi base64url dài vài trăm ký tự
+    static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -6,13 +6,15 @@ import com.nekonihongo.backend.dto.LoginResponse;
 import com.nekonihongo.backend.dto.UserResponse;
 import com.nekonihongo.backend.entity.User;
 import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.security.LoginAttemptThrottle;
+import com.nekonihongo.backend.security.PasswordVerifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,25 +23,30 @@ public class AuthService {
 
         private final UserRepository userRepository;
         private final JwtService jwtService;
-        private final PasswordEncoder passwordEncoder;
+        private final PasswordVerifier passwordVerifier;
+        private final LoginAttemptThrottle loginAttemptThrottle;
         private final StreakService streakService;
 
         /**
          * Xử lý login:
+         * - Giới hạn số lần thử theo email/IP (429), BCrypt chạy trên pool riêng (503 khi quá tải)
          * - Kiểm tra email + password
          * - Cập nhật streak và lastLoginDate
          * - Sinh JWT + refresh token
          * - Trả về AuthResponse chứa thông tin user
          */
-        public LoginResponse login(AuthRequest request) {
+        public LoginResponse login(AuthRequest request, String clientIp) {
+                loginAttemptThrottle.acquire(request.getEmail(), clientIp);
+
                 // Tìm user theo email
-                User user = userRepository.findByEmailIgnoreCase(request.getEmail())
-                                .orElseThrow(() -> new BadCredentialsException("Email hoặc mật khẩu sai!"));
+                User user = userRepository.findByEmailIgnoreCase(request.getEmail()).orElse(null);
 
-                // Kiểm tra password
-                if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+                // Kiểm tra password; chỉ lần sai mới bị tính vào giới hạn theo IP
+                if (user == null || !passwordVerifier.matches(request.getPassword(), user.getPassword())) {
+                        loginAttemptThrottle.recordFailure(clientIp);
                         throw new BadCredentialsException("Email hoặc mật khẩu sai!");
                 }
+                loginAttemptThrottle.reset(request.getEmail());
 
                 // ✅ Cập nhật streak khi đăng nhập
                 streakService.updateLoginStreak(user);
@@ -48,10 +55,12 @@ public class AuthService {
                 var claims = new HashMap<String, Object>();
                 claims.put("role", user.getRole().name());
                 claims.put("userId", user.getId());
+                claims.put("tokenVersion", user.getTokenVersion());
 
                 // Sinh token
                 String token = jwtService.generateToken(user.getEmail(), claims);
-                String refreshToken = jwtService.generateRefreshToken(user.getEmail());
+                String refreshToken = jwtService.generateRefreshToken(user.getEmail(),
+                                Map.of("userId", user.getId(), "tokenVersion", user.getTokenVersion()));
 
                 // Trả về response
                 return LoginResponse.builder()
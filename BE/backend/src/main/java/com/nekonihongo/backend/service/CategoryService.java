@@ -1,20 +1,37 @@
 package com.nekonihongo.backend.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
 import com.nekonihongo.backend.repository.CategoryRepository;
 import com.nekonihongo.backend.dto.CategoryDTO;
+
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
+    public static final String CATALOG_NAME = "categories";
+
     private final CategoryRepository categoryRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+
+    private CatalogSnapshotHolder<List<CategoryDTO>> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog);
+    }
 
     public List<CategoryDTO> getAllCategories() {
+        return catalog.get();
+    }
+
+    private List<CategoryDTO> loadCatalog() {
         return categoryRepository.findAll().stream()
                 .map(cat -> CategoryDTO.builder()
                         .id(cat.getId())
@@ -22,6 +39,6 @@ public class CategoryService {
                         .displayName(cat.getDisplayName())
                         .description(cat.getDescription())
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
-}
\ No newline at end of file
+}
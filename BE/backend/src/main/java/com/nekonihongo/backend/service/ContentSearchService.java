@@ -0,0 +1,196 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.ContentSearchCatalog;
+import com.nekonihongo.backend.dto.GrammarPatternDTO;
+import com.nekonihongo.backend.dto.JlptVocabularyDTO;
+import com.nekonihongo.backend.dto.KanjiJlptDTO;
+import com.nekonihongo.backend.dto.SearchHitDTO;
+import com.nekonihongo.backend.dto.SearchResultDTO;
+import com.nekonihongo.backend.dto.SuggestionDTO;
+import com.nekonihongo.backend.dto.WordResponse;
+import com.nekonihongo.backend.enums.CategoryType;
+import com.nekonihongo.backend.search.NGramIndex;
+import com.nekonihongo.backend.search.SuggestTrie;
+import com.nekonihongo.backend.search.TextFolding;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tìm kiếm và gợi ý autocomplete chung cho toàn bộ nội dung học: từ vựng Minna,
+ * từ vựng JLPT, kanji JLPT và ngữ pháp JLPT. Index được build lại mỗi khi một
+ * catalog nguồn có snapshot mới.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentSearchService {
+
+    public static final String CATALOG_NAME = "content-search";
+
+    // Số gợi ý tối đa lưu ở mỗi node trie (cũng là limit tối đa của API suggest)
+    public static final int MAX_SUGGESTIONS = 10;
+
+    public static final int MAX_SEARCH_RESULTS = 100;
+
+    // Từ vựng Minna là giáo trình sơ cấp, xếp ngang N5
+    private static final int MINNA_WEIGHT = 50;
+
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final VocabularyService vocabularyService;
+    private final JlptVocabularyService jlptVocabularyService;
+    private final KanjiService kanjiService;
+    private final GrammarService grammarService;
+
+    private CatalogSnapshotHolder<ContentSearchCatalog> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.registerDerived(CATALOG_NAME, this::loadCatalog, ContentSearchCatalog::entries,
+                VocabularyService.CATALOG_NAME, JlptVocabularyService.CATALOG_NAME,
+                KanjiService.CATALOG_NAME, GrammarService.CATALOG_NAME);
+    }
+
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        ContentSearchCatalog snapshot = catalog.get();
+        int[] ids = new int[Math.max(1, Math.min(limit, MAX_SUGGESTIONS))];
+        int count = snapshot.trie().complete(TextFolding.fold(query), ids);
+        List<SuggestionDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(snapshot.entries().get(ids[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Tìm kiếm có xếp hạng (exact &gt; prefix &gt; substring, cùng hạng thì theo độ
+     * ưu tiên); chỉ {@code limit} kết quả tốt nhất được giữ lại qua heap giới hạn.
+     *
+     * @param type {@code null} = mọi loại nội dung
+     */
+    public SearchResultDTO search(String query, CategoryType type, int limit) {
+        ContentSearchCatalog snapshot = catalog.get();
+        BitSet filter = type == null ? null : snapshot.byType().get(type);
+        NGramIndex.Hits hits = snapshot.index().top(TextFolding.fold(query), filter,
+                Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+
+        List<SearchHitDTO> result = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            SuggestionDTO entry = snapshot.entries().get(hits.doc(i));
+            result.add(SearchHitDTO.builder()
+                    .type(entry.getType())
+                    .match(hits.rank(i))
+                    .text(entry.getText())
+                    .reading(entry.getReading())
+                    .meaning(entry.getMeaning())
+                    .level(entry.getLevel())
+                    .build());
+        }
+        return new SearchResultDTO(result, hits.total());
+    }
+
+    private ContentSearchCatalog loadCatalog() {
+        // Gộp trùng theo (loại, chữ, cách đọc); giữ bản có weight cao hơn
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+        for (WordResponse w : vocabularyService.getAllWords()) {
+            add(candidates, new Candidate(word(w.getJapanese(), w.getKanji(), w.getVietnamese(), null, MINNA_WEIGHT),
+                    keys(w.getJapanese(), w.getKanji(), w.getVietnamese())));
+        }
+        for (JlptVocabularyDTO w : jlptVocabularyService.getAllWords()) {
+            add(candidates, new Candidate(word(w.getTuVung(), w.getHanTu(), w.getTiengViet(), w.getLevel(),
+                    levelWeight(w.getLevel())), keys(w.getTuVung(), w.getHanTu(), w.getTiengViet())));
+        }
+        for (KanjiJlptDTO k : kanjiService.getAllJlptKanji()) {
+            String level = k.getLevel() != null ? k.getLevel().name() : null;
+            String meaning = isBlank(k.getHanViet()) ? k.getMeaning() : k.getHanViet() + " – " + k.getMeaning();
+            add(candidates, new Candidate(suggestion(CategoryType.KANJI, k.getKanji(), k.getOnYomi(),
+                    meaning, level, levelWeight(level)),
+                    new String[] { TextFolding.fold(k.getKanji()), TextFolding.fold(k.getHanViet()),
+                            TextFolding.fold(k.getMeaning()) }));
+        }
+        for (GrammarPatternDTO g : grammarService.getAllGrammarPatterns()) {
+            add(candidates, new Candidate(suggestion(CategoryType.GRAMMAR, g.getPattern(), null,
+                    g.getMeaning(), g.getLevel(), levelWeight(g.getLevel())),
+                    new String[] { TextFolding.fold(g.getPattern()), TextFolding.fold(g.getMeaning()) }));
+        }
+
+        // Thứ tự ưu tiên: weight cao trước, rồi chữ ngắn trước
+        List<Candidate> ordered = new ArrayList<>(candidates.values());
+        ordered.sort(Comparator.comparingInt((Candidate c) -> -c.suggestion().getWeight())
+                .thenComparingInt(c -> c.suggestion().getText().length())
+                .thenComparing(c -> c.suggestion().getText()));
+
+        List<SuggestionDTO> entries = ordered.stream().map(Candidate::suggestion).toList();
+        List<String[]> keys = ordered.stream().map(Candidate::keys).toList();
+
+        Map<CategoryType, BitSet> byType = new EnumMap<>(CategoryType.class);
+        for (CategoryType type : CategoryType.values()) {
+            byType.put(type, new BitSet(entries.size()));
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            byType.get(entries.get(i).getType()).set(i);
+        }
+        return new ContentSearchCatalog(entries, SuggestTrie.build(keys, MAX_SUGGESTIONS), NGramIndex.build(keys),
+                Collections.unmodifiableMap(byType));
+    }
+
+    private static void add(Map<String, Candidate> candidates, Candidate candidate) {
+        SuggestionDTO s = candidate.suggestion();
+        if (s.getText() == null || s.getText().isBlank()) {
+            return;
+        }
+        candidates.merge(s.getType() + "|" + s.getText() + "|" + s.getReading(), candidate,
+                (a, b) -> a.suggestion().getWeight() >= b.suggestion().getWeight() ? a : b);
+    }
+
+    // Key của từ vựng: cách đọc, romaji, chữ Hán, nghĩa tiếng Việt (đều đã fold)
+    private static String[] keys(String reading, String kanji, String meaning) {
+        String folded = TextFolding.fold(reading);
+        return new String[] { folded, TextFolding.romaji(folded), TextFolding.fold(kanji), TextFolding.fold(meaning) };
+    }
+
+    // Từ có chữ Hán thì hiển thị chữ Hán, cách đọc kana đi kèm
+    private static SuggestionDTO word(String kana, String kanji, String meaning, String level, int weight) {
+        return isBlank(kanji)
+                ? suggestion(CategoryType.VOCABULARY, kana, null, meaning, level, weight)
+                : suggestion(CategoryType.VOCABULARY, kanji, kana, meaning, level, weight);
+    }
+
+    private static SuggestionDTO suggestion(CategoryType type, String text, String reading, String meaning,
+            String level, int weight) {
+        return SuggestionDTO.builder()
+                .type(type)
+                .text(text)
+                .reading(isBlank(reading) ? null : reading)
+                .meaning(meaning)
+                .level(level)
+                .weight(weight)
+                .build();
+    }
+
+    // Dữ liệu kanji dùng "-" cho trường trống
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank() || value.equals("-");
+    }
+
+    // N5 → 50 ... N1 → 10: nội dung cơ bản được gợi ý trước
+    private static int levelWeight(String level) {
+        if (level == null || level.length() != 2 || !Character.isDigit(level.charAt(1))) {
+            return 0;
+        }
+        return (level.charAt(1) - '0') * 10;
+    }
+
+    private record Candidate(SuggestionDTO suggestion, String[] keys) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.entity.ContentVersion;
+import com.nekonihongo.backend.repository.ContentVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Đồng bộ catalog giữa các instance qua bảng {@code content_versions}.
+ * <p>
+ * Mỗi lần ghi dữ liệu catalog gọi {@link #bump} trong cùng transaction: version
+ * của catalog đó và dòng {@code global} cùng tăng. Instance hiện tại build lại
+ * ngay sau commit; các instance khác phát hiện qua {@link #pollChanges()}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentVersionService {
+
+    private final ContentVersionRepository contentVersionRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+
+    // Version mà snapshot trên instance này đã phản ánh
+    private final Map<String, Long> appliedVersions = new ConcurrentHashMap<>();
+    private volatile long appliedGlobalVersion = -1;
+
+    /**
+     * Tạo các dòng còn thiếu (catalog mới, DB trống) và ghi nhận version hiện tại
+     * làm mốc ban đầu.
+     */
+    @Transactional
+    public void initialize() {
+        List<String> names = new ArrayList<>(catalogNames());
+        names.add(ContentVersion.GLOBAL);
+        Map<String, Long> versions = currentVersions();
+        for (String name : names) {
+            if (!versions.containsKey(name)) {
+                contentVersionRepository.save(new ContentVersion(name, 0L, null));
+                versions.put(name, 0L);
+            }
+        }
+        appliedVersions.putAll(versions);
+        appliedGlobalVersion = versions.get(ContentVersion.GLOBAL);
+    }
+
+    /**
+     * Đánh dấu catalog đã thay đổi. Tham gia transaction hiện tại nếu có, nên
+     * version chỉ tăng khi lần ghi dữ liệu commit thành công.
+     */
+    @Transactional
+    public void bump(String... catalogNames) {
+        List<String> names = new ArrayList<>(List.of(catalogNames));
+        names.add(ContentVersion.GLOBAL);
+        contentVersionRepository.incrementVersions(names);
+
+        Map<String, Long> bumped = new HashMap<>();
+        for (Object[] row : contentVersionRepository.findVersionsByNames(List.of(catalogNames))) {
+            bumped.put((String) row[0], ((Number) row[1]).longValue());
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumped.forEach((name, version) -> appliedVersions.merge(name, version, Math::max));
+                // Build lại cả khi bảng chưa có dòng cho catalog (đồng bộ đang tắt)
+                for (String name : catalogNames) {
+                    refresh(name);
+                }
+            }
+        });
+    }
+
+    /**
+     * Một lần đọc dòng {@code global} theo primary key; chỉ khi nó đổi mới đọc
+     * toàn bộ bảng (vài dòng) và build lại các catalog có version mới.
+     */
+    public void pollChanges() {
+        Long global = contentVersionRepository.findVersionByName(ContentVersion.GLOBAL).orElse(null);
+        if (global == null || global == appliedGlobalVersion) {
+            return;
+        }
+        currentVersions().forEach((name, version) -> {
+            if (ContentVersion.GLOBAL.equals(name)) {
+                return;
+            }
+            Long applied = appliedVersions.get(name);
+            if (applied == null || version > applied) {
+                appliedVersions.put(name, version);
+                log.info("Catalog '{}' changed on another instance (v{}), rebuilding", name, version);
+                refresh(name);
+            }
+        });
+        appliedGlobalVersion = global;
+    }
+
+    private void refresh(String name) {
+        CatalogSnapshotHolder<?> holder = catalogSnapshotRegistry.get(name);
+        if (holder != null) {
+            holder.refreshAsync();
+        }
+    }
+
+    private List<String> catalogNames() {
+        return catalogSnapshotRegistry.all().stream().map(CatalogSnapshotHolder::getName).toList();
+    }
+
+    private Map<String, Long> currentVersions() {
+        Map<String, Long> versions = new HashMap<>();
+        contentVersionRepository.findAll().forEach(v -> versions.put(v.getName(), v.getVersion()));
+        return versions;
+    }
+}
@@ -0,0 +1,125 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.catalog.CatalogPayloadRenderer;
+import com.nekonihongo.backend.catalog.CatalogSnapshot;
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.GrammarLessonCatalog;
+import com.nekonihongo.backend.catalog.RenderedPayload;
+import com.nekonihongo.backend.dto.ApiResponse;
+import com.nekonihongo.backend.dto.grammar.GrammarExampleDto;
+import com.nekonihongo.backend.dto.grammar.GrammarLessonDto;
+import com.nekonihongo.backend.dto.grammar.GrammarPointDto;
+import com.nekonihongo.backend.entity.GrammarExample;
+import com.nekonihongo.backend.entity.GrammarLesson;
+import com.nekonihongo.backend.entity.GrammarPoint;
+import com.nekonihongo.backend.repository.GrammarLessonRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GrammarLessonService {
+
+    public static final String CATALOG_NAME = "grammar-lessons";
+
+    private final GrammarLessonRepository lessonRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+    private final CatalogPayloadRenderer payloadRenderer;
+
+    private CatalogSnapshotHolder<GrammarLessonCatalog> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, GrammarLessonCatalog::lessons);
+    }
+
+    public List<GrammarLessonDto> getAllLessons() {
+        return catalog.get().lessons();
+    }
+
+    // Response JSON đã render sẵn cho GET /api/grammar/lessons
+    public RenderedPayload getAllLessonsPayload() {
+        return catalog.get().allLessonsPayload();
+    }
+
+    // Response JSON đã render sẵn cho GET /api/grammar/lessons/{id}, null nếu không có
+    public RenderedPayload getLessonPayload(Integer id) {
+        return id == null ? null : catalog.get().lessonPayloads().get(id);
+    }
+
+    /**
+     * Gọi khi nội dung ngữ pháp thay đổi: bỏ các byte đã render và build lại ở
+     * background.
+     */
+    public void refreshCatalog() {
+        contentVersionService.bump(CATALOG_NAME);
+    }
+
+    public CatalogSnapshot<GrammarLessonCatalog> getCatalogSnapshot() {
+        return catalog.snapshot();
+    }
+
+    private GrammarLessonCatalog loadCatalog() {
+        // Bước 1: Lấy tất cả lesson + points
+        List<GrammarLesson> lessons = lessonRepository.findAllWithPoints();
+
+        // Bước 2: Thu thập pointIds
+        List<Long> pointIds = lessons.stream()
+                .flatMap(lesson -> lesson.getPoints().stream())
+                .map(GrammarPoint::getId)
+                .distinct()
+                .toList();
+
+        // Bước 3: Lấy examples một lần duy nhất
+        Map<Long, List<GrammarExample>> examplesMap = pointIds.isEmpty()
+                ? Map.of()
+                : lessonRepository.findExamplesByPointIds(pointIds).stream()
+                        .collect(Collectors.groupingBy(ex -> ex.getPoint().getId()));
+
+        // Bước 4: Convert sang DTO và render sẵn envelope
+        List<GrammarLessonDto> dtos = lessons.stream()
+                .map(lesson -> toDto(lesson, examplesMap))
+                .toList();
+
+        RenderedPayload allPayload = payloadRenderer.render(
+                ApiResponse.success("Lấy danh sách bài học ngữ pháp thành công!", dtos));
+
+        Map<Integer, RenderedPayload> lessonPayloads = new HashMap<>();
+        for (GrammarLessonDto dto : dtos) {
+            lessonPayloads.put(dto.getId(),
+                    payloadRenderer.render(ApiResponse.success("Lấy bài học ngữ pháp thành công!", dto)));
+        }
+
+        log.info("Rendered {} grammar lessons ({} bytes)", dtos.size(), allPayload.length());
+        return new GrammarLessonCatalog(dtos, allPayload, Collections.unmodifiableMap(lessonPayloads));
+    }
+
+    private GrammarLessonDto toDto(GrammarLesson lesson, Map<Long, List<GrammarExample>> examplesMap) {
+        return new GrammarLessonDto(
+                lesson.getId(),
+                lesson.getTitle(),
+                lesson.getIcon(),
+                lesson.getPoints().stream()
+                        .map(point -> new GrammarPointDto(
+                                point.getTitle(),
+                                point.getMeaning(),
+                                point.getExplanation(),
+                                examplesMap.getOrDefault(point.getId(), List.of()).stream()
+                                        .map(ex -> new GrammarExampleDto(
+                                                ex.getJapanese(),
+                                                ex.getVietnamese()))
+                                        .toList()))
+                        .toList());
+    }
+}
@@ -1,60 +1,78 @@
 // src/main/java/com/nekonihongo/backend/service/GrammarService.java
 package com.nekonihongo.backend.service;
 
+import com.nekonihongo.backend.catalog.CatalogSnapshot;
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.GrammarPatternCatalog;
 import com.nekonihongo.backend.dto.GrammarPatternDTO;
 import com.nekonihongo.backend.entity.GrammarPattern;
 import com.nekonihongo.backend.repository.GrammarPatternRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GrammarService {
 
+    public static final String CATALOG_NAME = "grammar-patterns";
+
     private final GrammarPatternRepository grammarPatternRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+
+    // Toàn bộ ngữ pháp JLPT, đã sắp xếp theo level rồi id và chia sẵn theo level
+    private CatalogSnapshotHolder<GrammarPatternCatalog> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, GrammarPatternCatalog::all);
+    }
 
     // Lấy danh sách ngữ pháp theo level
     public List<GrammarPatternDTO> getGrammarPatternsByLevel(String level) {
-        List<GrammarPattern> patterns = grammarPatternRepository.findByLevelOrderByIdAsc(level);
-
-        return patterns.stream()
-                .map(this::convertToDTO)
-                .toList();
+        return catalog.get().byLevel(level);
     }
 
     // Lấy số lượng ngữ pháp theo level
     public Long getGrammarCountByLevel(String level) {
-        return grammarPatternRepository.countByLevel(level);
+        return catalog.get().count(level);
     }
 
     // Lấy tất cả ngữ pháp (tất cả level)
     public List<GrammarPatternDTO> getAllGrammarPatterns() {
-        List<GrammarPattern> patterns = grammarPatternRepository.findAllByOrderByLevelAscIdAsc();
-
-        return patterns.stream()
-                .map(this::convertToDTO)
-                .toList();
+        return catalog.get().all();
     }
 
     // Lấy số lượng ngữ pháp của tất cả các level
     public Map<String, Long> getGrammarCountsByAllLevels() {
-        List<Object[]> results = grammarPatternRepository.countAllByLevelGroup();
+        return catalog.get().countByLevel();
+    }
+
+    // Gọi khi bảng grammar_pattern thay đổi
+    public void refreshCatalog() {
+        contentVersionService.bump(CATALOG_NAME);
+    }
 
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Long) result[1]));
+    public CatalogSnapshot<GrammarPatternCatalog> getCatalogSnapshot() {
+        return catalog.snapshot();
+    }
+
+    private GrammarPatternCatalog loadCatalog() {
+        return GrammarPatternCatalog.of(grammarPatternRepository.findAllByOrderByLevelAscIdAsc().stream()
+                .map(this::convertToDTO)
+                .toList());
     }
 
     // Convert entity to DTO
     private GrammarPatternDTO convertToDTO(GrammarPattern pattern) {
         return GrammarPatternDTO.builder()
                 .id(pattern.getId())
-                .level(pattern.getLevel())
+                .level(pattern.getLevel() != null ? pattern.getLevel().intern() : null)
                 .pattern(pattern.getPattern())
                 .meaning(pattern.getMeaning())
                 .example(pattern.getExample())
@@ -66,4 +84,4 @@ public class GrammarService {
     public List<GrammarPatternDTO> getN5GrammarPatterns() {
         return getGrammarPatternsByLevel("N5");
     }
-}
\ No newline at end of file
+}
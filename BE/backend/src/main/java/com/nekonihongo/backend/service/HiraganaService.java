@@ -1,37 +1,57 @@
 package com.nekonihongo.backend.service;
 
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.KanaCatalog;
 import com.nekonihongo.backend.dto.HiraganaDTO;
 import com.nekonihongo.backend.dto.request.HiraganaRequest;
 import com.nekonihongo.backend.entity.Hiragana;
 import com.nekonihongo.backend.mapper.HiraganaMapper;
 import com.nekonihongo.backend.repository.HiraganaRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class HiraganaService {
+    public static final String CATALOG_NAME = "hiragana";
+
     private final HiraganaRepository hiraganaRepository;
     private final HiraganaMapper hiraganaMapper;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+
+    private CatalogSnapshotHolder<KanaCatalog<HiraganaDTO>> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, KanaCatalog::all);
+    }
 
     public List<HiraganaDTO> getAllHiragana() {
-        return hiraganaRepository.findAll()
-                .stream()
-                .map(hiraganaMapper::toDTO)
-                .collect(Collectors.toList());
+        return catalog.get().all();
     }
 
     public HiraganaDTO getByCharacter(String character) {
-        Hiragana hiragana = hiraganaRepository.findByCharacter(character)
-                .orElse(null);
-        return hiraganaMapper.toDTO(hiragana);
+        return catalog.get().get(character);
+    }
+
+    private KanaCatalog<HiraganaDTO> loadCatalog() {
+        List<HiraganaDTO> all = hiraganaRepository.findAll()
+                .stream()
+                .map(hiraganaMapper::toDTO)
+                .toList();
+
+        return KanaCatalog.of(all, HiraganaDTO::getCharacter, KanaCatalog.HIRAGANA_BLOCK_BASE);
     }
 
+    @Transactional
     public HiraganaDTO createHiragana(HiraganaRequest request) {
         if (hiraganaRepository.findByCharacter(request.getCharacter()).isPresent()) {
             throw new IllegalArgumentException("Character already exists");
@@ -39,9 +59,11 @@ public class HiraganaService {
 
         Hiragana hiragana = hiraganaMapper.toEntity(request);
         Hiragana saved = hiraganaRepository.save(hiragana);
+        contentVersionService.bump(CATALOG_NAME);
         return hiraganaMapper.toDTO(saved);
     }
 
+    @Transactional
     public HiraganaDTO updateHiragana(Integer id, HiraganaRequest request) {
         Hiragana existing = hiraganaRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Hiragana not found"));
@@ -57,13 +79,16 @@ public class HiraganaService {
         existing.setStrokeOrder(request.getStrokeOrder());
 
         Hiragana updated = hiraganaRepository.save(existing);
+        contentVersionService.bump(CATALOG_NAME);
         return hiraganaMapper.toDTO(updated);
     }
 
+    @Transactional
     public void deleteHiragana(Integer id) {
         if (!hiraganaRepository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Hiragana not found");
         }
         hiraganaRepository.deleteById(id);
+        contentVersionService.bump(CATALOG_NAME);
     }
 }
\ No newline at end of file
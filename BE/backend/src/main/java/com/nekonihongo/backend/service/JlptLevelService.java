@@ -2,22 +2,38 @@ package com.nekonihongo.backend.service;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
 import com.nekonihongo.backend.dto.JlptLevelDTO;
 import com.nekonihongo.backend.entity.JlptLevel;
 import com.nekonihongo.backend.repository.JlptLevelRepository;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class JlptLevelService {
+    public static final String CATALOG_NAME = "levels";
+
     private final JlptLevelRepository jlptLevelRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+
+    private CatalogSnapshotHolder<List<JlptLevelDTO>> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog);
+    }
 
     public List<JlptLevelDTO> getAllLevels() {
+        return catalog.get();
+    }
+
+    private List<JlptLevelDTO> loadCatalog() {
         return jlptLevelRepository.findAll().stream()
                 .sorted(Comparator.comparingInt(JlptLevel::getId).reversed()) // N1 → N5
                 .map(level -> JlptLevelDTO.builder()
@@ -25,6 +41,6 @@ public class JlptLevelService {
                         .level(level.getLevel().name())
                         .displayName(level.getDisplayName())
                         .build())
-                .collect(Collectors.toList());
+                .toList();
     }
 }
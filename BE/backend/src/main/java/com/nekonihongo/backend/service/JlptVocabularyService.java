@@ -1,47 +1,190 @@
 // src/main/java/com/nekonihongo/backend/service/JlptVocabularyService.java
 package com.nekonihongo.backend.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.nekonihongo.backend.catalog.CatalogSnapshot;
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.JlptVocabularyCatalog;
+import com.nekonihongo.backend.catalog.SearchResultCache;
+import com.nekonihongo.backend.dto.CursorPageDTO;
 import com.nekonihongo.backend.dto.JlptVocabularyDTO;
 import com.nekonihongo.backend.entity.JlptVocabulary;
+import com.nekonihongo.backend.enums.VocabularySearchMode;
 import com.nekonihongo.backend.repository.JlptVocabularyRepository;
+import com.nekonihongo.backend.search.FuzzyIndex;
+import com.nekonihongo.backend.search.NGramIndex;
+import com.nekonihongo.backend.search.TextFolding;
+import com.nekonihongo.backend.util.CursorCodec;
+import com.nekonihongo.backend.util.OffsetPageRequest;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class JlptVocabularyService {
 
+    public static final String CATALOG_NAME = "jlpt-vocabulary";
+    public static final String COUNTS_CATALOG_NAME = "jlpt-vocabulary-counts";
+
+    // Số kết quả gần đúng tối đa nối sau kết quả thường khi bật fuzzy
+    private static final int MAX_FUZZY_RESULTS = 200;
+
+    // ngram_token_size mặc định của MySQL: query ngắn hơn không có token nào để MATCH
+    private static final int FULLTEXT_MIN_QUERY_LENGTH = 2;
+
     private final JlptVocabularyRepository repository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+    private final SearchResultCache searchResultCache;
+
+    @Value("${app.search.jlpt-vocabulary.mode:memory}")
+    private String searchModeName;
+
+    private VocabularySearchMode searchMode;
+
+    // Từ vựng + index tìm kiếm, dùng cho các API có query
+    private CatalogSnapshotHolder<JlptVocabularyCatalog> catalog;
+
+    // Số từ theo level (một GROUP BY mỗi lần build), thay cho COUNT ở mỗi trang
+    private CatalogSnapshotHolder<Map<String, Long>> counts;
+
+    @PostConstruct
+    void registerCatalog() {
+        searchMode = VocabularySearchMode.valueOf(searchModeName.trim().toUpperCase(Locale.ROOT));
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, JlptVocabularyCatalog::words);
+        counts = catalogSnapshotRegistry.register(COUNTS_CATALOG_NAME, this::loadCounts);
+        catalog.onRebuild(() -> searchResultCache.invalidate(CATALOG_NAME));
+    }
 
     /**
-     * Lấy tất cả từ vựng theo level với phân trang
+     * Lấy tất cả từ vựng theo level với phân trang (tổng lấy từ bộ đếm cache)
      */
     public Page<JlptVocabularyDTO> getByLevel(String level, int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<JlptVocabulary> result = repository.findByLevel(level, pageable);
+        Slice<JlptVocabulary> result = repository.findByLevelOrderByIdAsc(level, pageable);
 
-        return result.map(this::toDTO);
+        return new PageImpl<>(result.map(this::toDTO).getContent(), pageable, getCountByLevel(level));
+    }
+
+    /**
+     * Phân trang keyset theo (level, id): không OFFSET, không COUNT, nên trang
+     * sâu cũng nhanh như trang đầu. {@code cursor = null} để lấy trang đầu.
+     */
+    public CursorPageDTO<JlptVocabularyDTO> scrollByLevel(String level, String cursor, int size) {
+        long afterId = 0;
+        if (cursor != null) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            if (!parts[0].equals(level)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            afterId = CursorCodec.decodeLong(parts[1]);
+        }
+        Slice<JlptVocabulary> slice = repository.findByLevelAndIdGreaterThanOrderByIdAsc(level, afterId,
+                PageRequest.of(0, size));
+        return toCursorPage(slice);
+    }
+
+    /**
+     * Như {@link #scrollByLevel} nhưng duyệt tất cả level, theo thứ tự (level, id)
+     */
+    public CursorPageDTO<JlptVocabularyDTO> scrollAll(String cursor, int size) {
+        Slice<JlptVocabulary> slice;
+        if (cursor == null) {
+            slice = repository.findAllByOrderByLevelAscIdAsc(PageRequest.of(0, size));
+        } else {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            slice = repository.findAllAfter(parts[0], CursorCodec.decodeLong(parts[1]), PageRequest.of(0, size));
+        }
+        return toCursorPage(slice);
+    }
+
+    /**
+     * Tìm kiếm theo cursor. Kết quả nằm sẵn trong bộ nhớ nên cursor chỉ là vị trí
+     * trong danh sách đã xếp hạng (kèm content hash snapshot; cursor của dữ liệu cũ → 400).
+     * Ở mode fulltext/like, cursor là offset của truy vấn trên DB.
+     */
+    public CursorPageDTO<JlptVocabularyDTO> scrollSearch(String level, String query, String cursor, int size) {
+        return scrollSearch(level, query, cursor, size, false);
+    }
+
+    /**
+     * {@code fuzzy = true}: nối thêm các từ có romaji/nghĩa gõ sai tối đa
+     * {@link FuzzyIndex#MAX_DISTANCE} lỗi sau kết quả thường (chỉ ở mode memory).
+     */
+    public CursorPageDTO<JlptVocabularyDTO> scrollSearch(String level, String query, String cursor, int size,
+            boolean fuzzy) {
+        CatalogSnapshot<JlptVocabularyCatalog> snapshot = catalog.snapshot();
+        return searchResultCache.get(CATALOG_NAME, snapshot.contentHash(), cacheQuery(query), level,
+                "scroll:" + cursor + ":" + size + (fuzzy ? ":fuzzy" : ""),
+                () -> searchMode == VocabularySearchMode.MEMORY
+                        ? scrollSearchInMemory(snapshot, level, query, cursor, size, fuzzy)
+                        : scrollSearchInDatabase(level, query, cursor, size));
+    }
+
+    private CursorPageDTO<JlptVocabularyDTO> scrollSearchInMemory(CatalogSnapshot<JlptVocabularyCatalog> snapshot,
+            String level, String query, String cursor, int size, boolean fuzzy) {
+        int offset = 0;
+        if (cursor != null) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            // Content hash giống nhau giữa các node; khác nghĩa là dữ liệu đã đổi và thứ tự
+            // kết quả có thể khác, nên báo lỗi thay vì lặng lẽ quay về trang đầu
+            long position = CursorCodec.decodeLong(parts[1]);
+            if (!parts[0].equals(snapshot.contentHash()) || position < 0 || position > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            offset = (int) position;
+        }
+        BitSet filter = level == null ? null : snapshot.data().levels().getOrDefault(level, new BitSet());
+        int[] docs = rankedDocs(snapshot.data(), query, filter, fuzzy);
+
+        int from = Math.min(offset, docs.length);
+        int to = Math.min(from + size, docs.length);
+        List<JlptVocabularyDTO> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            items.add(snapshot.data().words().get(docs[i]));
+        }
+        boolean hasNext = to < docs.length;
+        String next = hasNext ? CursorCodec.encode(snapshot.contentHash(), String.valueOf(to)) : null;
+        return new CursorPageDTO<>(items, next, hasNext);
     }
 
     /**
      * Tìm kiếm từ vựng theo level và query (tuVung, hanTu, tiengViet)
      */
     public Page<JlptVocabularyDTO> searchByLevel(String level, String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
-        Page<JlptVocabulary> result = repository.searchByLevel(level, query, pageable);
+        return cachedSearch(level, query, page, size, false);
+    }
 
-        return result.map(this::toDTO);
+    /**
+     * Như {@link #searchByLevel(String, String, int, int)}, kèm kết quả gần đúng khi {@code fuzzy = true}
+     */
+    public Page<JlptVocabularyDTO> searchByLevel(String level, String query, int page, int size, boolean fuzzy) {
+        return cachedSearch(level, query, page, size, fuzzy);
     }
 
     /**
      * Lấy tổng số từ theo level
      */
     public long getCountByLevel(String level) {
-        return repository.countByLevel(level);
+        return counts.get().getOrDefault(level, 0L);
     }
 
     /**
@@ -49,26 +192,172 @@ public class JlptVocabularyService {
      */
     public Page<JlptVocabularyDTO> getAll(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<JlptVocabulary> result = repository.findAll(pageable);
+        Slice<JlptVocabulary> result = repository.findAllByOrderByLevelAscIdAsc(pageable);
 
-        return result.map(this::toDTO);
+        return new PageImpl<>(result.map(this::toDTO).getContent(), pageable, getTotalCount());
     }
 
     /**
      * Tìm kiếm toàn bộ (không filter level)
      */
     public Page<JlptVocabularyDTO> searchAll(String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
-        Page<JlptVocabulary> result = repository.searchAll(query, pageable);
-
-        return result.map(this::toDTO);
+        return cachedSearch(null, query, page, size, false);
     }
 
     /**
      * Lấy tổng số từ toàn bộ
      */
     public long getTotalCount() {
-        return repository.count();
+        return counts.get().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Toàn bộ từ vựng JLPT (theo id) từ snapshot
+     */
+    public List<JlptVocabularyDTO> getAllWords() {
+        return catalog.get().words();
+    }
+
+    /**
+     * Gọi khi bảng jlpt_vocabulary thay đổi
+     */
+    public void refreshCatalog() {
+        contentVersionService.bump(CATALOG_NAME, COUNTS_CATALOG_NAME);
+    }
+
+    /**
+     * Kết quả theo (query đã chuẩn hóa, level, trang) được cache cùng content hash
+     * snapshot; query phổ biến không phải tìm lại (hay chạm DB ở mode fulltext/like).
+     */
+    private Page<JlptVocabularyDTO> cachedSearch(String level, String query, int page, int size, boolean fuzzy) {
+        CatalogSnapshot<JlptVocabularyCatalog> snapshot = catalog.snapshot();
+        Pageable pageable = PageRequest.of(page - 1, size);
+        return searchResultCache.get(CATALOG_NAME, snapshot.contentHash(), cacheQuery(query), level,
+                page + ":" + size + (fuzzy ? ":fuzzy" : ""), () -> {
+                    if (searchMode != VocabularySearchMode.MEMORY) {
+                        return searchInDatabase(level, query, pageable);
+                    }
+                    BitSet filter = level == null ? null
+                            : snapshot.data().levels().getOrDefault(level, new BitSet());
+                    return search(snapshot.data(), query, filter, pageable, fuzzy);
+                });
+    }
+
+    // Cùng cách chuẩn hóa với nơi thực thi: fold cho index, chỉ trim/lowercase cho DB (collation _ci)
+    private String cacheQuery(String query) {
+        return searchMode == VocabularySearchMode.MEMORY
+                ? TextFolding.fold(query)
+                : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tìm trên index trong bộ nhớ, xếp hạng exact &gt; prefix &gt; substring rồi
+     * cắt trang; tổng số kết quả có sẵn nên không cần COUNT riêng.
+     */
+    private Page<JlptVocabularyDTO> search(JlptVocabularyCatalog snapshot, String query, BitSet filter,
+            Pageable pageable, boolean fuzzy) {
+        int[] docs = rankedDocs(snapshot, query, filter, fuzzy);
+        int from = (int) Math.min(pageable.getOffset(), docs.length);
+        int to = Math.min(from + pageable.getPageSize(), docs.length);
+        List<JlptVocabularyDTO> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(snapshot.words().get(docs[i]));
+        }
+        return new PageImpl<>(content, pageable, docs.length);
+    }
+
+    // Doc id theo thứ tự: exact, prefix, substring rồi (nếu bật) các kết quả gần đúng
+    private int[] rankedDocs(JlptVocabularyCatalog snapshot, String query, BitSet filter, boolean fuzzy) {
+        String folded = TextFolding.fold(query);
+        int[] docs = snapshot.index().search(folded, filter).docs();
+        return fuzzy ? snapshot.fuzzy().extend(docs, folded, filter, MAX_FUZZY_RESULTS) : docs;
+    }
+
+    /**
+     * Tìm trên DB: FULLTEXT ngram (xếp theo relevance) hoặc LIKE. Query được
+     * bọc thành phrase "..." nên khớp các n-gram liền nhau như LIKE '%q%';
+     * query quá ngắn để tách n-gram thì dùng LIKE.
+     */
+    private Page<JlptVocabularyDTO> searchInDatabase(String level, String query, Pageable pageable) {
+        String trimmed = query.trim();
+        Page<JlptVocabulary> result;
+        if (searchMode == VocabularySearchMode.FULLTEXT && trimmed.length() >= FULLTEXT_MIN_QUERY_LENGTH) {
+            String phrase = toBooleanPhrase(trimmed);
+            result = level == null
+                    ? repository.fullTextSearchAll(phrase, pageable)
+                    : repository.fullTextSearchByLevel(level, phrase, pageable);
+        } else {
+            result = level == null
+                    ? repository.searchAll(trimmed, pageable)
+                    : repository.searchByLevel(level, trimmed, pageable);
+        }
+        return result.map(this::toDTO);
+    }
+
+    private CursorPageDTO<JlptVocabularyDTO> scrollSearchInDatabase(String level, String query, String cursor,
+            int size) {
+        long offset = 0;
+        if (cursor != null) {
+            offset = CursorCodec.decodeLong(CursorCodec.decode(cursor, 1)[0]);
+            if (offset < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        // Query theo offset thô: client đổi size giữa các trang vẫn không bỏ sót/lặp dòng
+        Page<JlptVocabularyDTO> page = searchInDatabase(level, query, new OffsetPageRequest(offset, size));
+        long nextOffset = offset + page.getNumberOfElements();
+        String next = nextOffset < page.getTotalElements() ? CursorCodec.encode(String.valueOf(nextOffset)) : null;
+        return new CursorPageDTO<>(page.getContent(), next, next != null);
+    }
+
+    // Boolean mode coi " + - * ( ) ~ < > @ là toán tử: bỏ dấu " rồi bọc cả query thành một phrase
+    private static String toBooleanPhrase(String query) {
+        return '"' + query.replace("\"", " ").trim() + '"';
+    }
+
+    private CursorPageDTO<JlptVocabularyDTO> toCursorPage(Slice<JlptVocabulary> slice) {
+        List<JlptVocabulary> rows = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            JlptVocabulary last = rows.get(rows.size() - 1);
+            next = CursorCodec.encode(last.getLevel(), String.valueOf(last.getId()));
+        }
+        return new CursorPageDTO<>(rows.stream().map(this::toDTO).toList(), next, next != null);
+    }
+
+    private Map<String, Long> loadCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Object[] row : repository.countGroupByLevel()) {
+            result.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private JlptVocabularyCatalog loadCatalog() {
+        List<JlptVocabularyDTO> words = repository.findAll(Sort.by("id")).stream()
+                .map(this::toDTO)
+                .toList();
+
+        // Tìm kiếm chạy trên DB thì không cần giữ index trong bộ nhớ
+        boolean indexed = searchMode == VocabularySearchMode.MEMORY;
+        Map<String, BitSet> levels = new HashMap<>();
+        List<String[]> keys = new ArrayList<>(indexed ? words.size() : 0);
+        List<String[]> fuzzyKeys = new ArrayList<>(indexed ? words.size() : 0);
+        for (int doc = 0; doc < words.size(); doc++) {
+            JlptVocabularyDTO word = words.get(doc);
+            levels.computeIfAbsent(word.getLevel(), l -> new BitSet(words.size())).set(doc);
+            if (indexed) {
+                // Key đã fold lưu cạnh bản gốc; tuVung có thêm key romaji
+                String reading = TextFolding.fold(word.getTuVung());
+                String romaji = TextFolding.romaji(reading);
+                String meaning = TextFolding.fold(word.getTiengViet());
+                keys.add(new String[] { reading, romaji, TextFolding.fold(word.getHanTu()), meaning });
+                fuzzyKeys.add(new String[] { romaji, meaning });
+            }
+        }
+        NGramIndex index = indexed ? NGramIndex.build(keys) : null;
+        FuzzyIndex fuzzy = indexed ? FuzzyIndex.build(fuzzyKeys) : null;
+        return new JlptVocabularyCatalog(words, Collections.unmodifiableMap(levels), index, fuzzy);
     }
 
     /**
@@ -1,9 +1,12 @@
 // src/main/java/com/nekonihongo/backend/service/JwtService.java
 package com.nekonihongo.backend.service;
 
+import com.nekonihongo.backend.security.VerifiedTokenCache;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
@@ -22,8 +25,32 @@ public class JwtService {
     @Value("${jwt.refresh-expiration-ms}")
     private long refreshExpirationMs;
 
+    // 0 = tắt cache token đã verify
+    @Value("${app.security.verified-token-cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+
+    // Claim phân biệt access token (gọi API) với refresh token; token cũ không có claim này là access token
+    public static final String TOKEN_TYPE_CLAIM = "tokenType";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     private static final long CLOCK_SKEW_TOLERANCE_MS = 30000; // ±30 seconds
 
+    // Key và parser (thread-safe, bất biến) dựng một lần lúc khởi động thay vì mỗi lần gọi
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        validateJwtSecret();
+        signingKey = createSigningKey(secret);
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = verifiedTokenCacheSize > 0 ? new VerifiedTokenCache(verifiedTokenCacheSize) : null;
+    }
+
     // Ensure JWT secret is mandatory and fail fast if missing
     public void validateJwtSecret() {
         if (secret == null || secret.trim().isEmpty()) {
@@ -37,11 +64,11 @@ public class JwtService {
     }
 
     // Tạo key từ secret (chuẩn JJWT 0.12+)
-    private SecretKey getSigningKey() {
+    static SecretKey createSigningKey(String secret) {
         try {
             byte[] keyBytes = Decoders.BASE64.decode(secret);
             return Keys.hmacShaKeyFor(keyBytes);
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | DecodingException e) {
             // Not a valid Base64 string - fall back to raw bytes of the secret
             byte[] keyBytes = secret.getBytes(java.nio.charset.StandardCharsets.UTF_8);
             return Keys.hmacShaKeyFor(keyBytes);
@@ -52,39 +79,64 @@ public class JwtService {
     public String generateToken(String email, Map<String, Object> claims) {
         return Jwts.builder()
                 .claims(claims)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN)
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String generateRefreshToken(String email) {
+    // Refresh token mang userId + tokenVersion để cũng bị thu hồi khi version tăng
+    public String generateRefreshToken(String email, Map<String, Object> claims) {
         return Jwts.builder()
+                .claims(claims)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN)
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Kiểm tra chữ ký + hạn dùng và trả về claims trong một lần parse. Token đã
+     * verify trước đó (và chưa hết hạn) được lấy thẳng từ cache.
+     *
+     * @throws JwtException             token sai chữ ký, hết hạn, sai định dạng
+     * @throws IllegalArgumentException token rỗng
+     */
+    public Claims verify(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        Claims claims = verifiedTokens.get(token);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
+    }
+
+    public static boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        return type == null || ACCESS_TOKEN.equals(type);
+    }
+
+    // Token cấp trước khi có claim tokenVersion tương ứng version 0
+    public static long tokenVersion(Claims claims) {
+        return claims.get("tokenVersion") instanceof Number version ? version.longValue() : 0L;
+    }
+
     // LẤY EMAIL TỪ TOKEN – DÙNG CÚ PHÁP MỚI!
     public String extractEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return verify(token).getSubject();
     }
 
     // KIỂM TRA TOKEN HỢP LỆ
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            verify(token);
             return true;
         } catch (ExpiredJwtException e) {
             System.out.println("JWT token is expired: " + e.getMessage());
@@ -0,0 +1,123 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.dto.kanji.KanjiCompoundDto;
+import com.nekonihongo.backend.dto.kanji.KanjiDto;
+import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
+import com.nekonihongo.backend.entity.Kanji;
+import com.nekonihongo.backend.entity.KanjiCompound;
+import com.nekonihongo.backend.entity.KanjiLesson;
+import com.nekonihongo.backend.repository.KanjiCompoundRepository;
+import com.nekonihongo.backend.repository.KanjiLessonRepository;
+import com.nekonihongo.backend.repository.KanjiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Load cây lesson → kanji → compound bằng ba query phẳng (lessons, kanji theo
+ * lesson_id IN, compounds theo kanji_id IN) rồi ghép lại trong bộ nhớ theo id.
+ * <p>
+ * Tổng số dòng trả về là lessons + kanji + compounds, thay vì
+ * lessons × kanji × compounds của JOIN FETCH hai collection, và không cần
+ * Hibernate dedupe qua equals/hashCode của Set.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KanjiLessonGraphLoader {
+
+    // Giữ danh sách IN dưới giới hạn tham số của driver/DB
+    static final int IN_BATCH_SIZE = 1000;
+
+    private final KanjiLessonRepository kanjiLessonRepository;
+    private final KanjiRepository kanjiRepository;
+    private final KanjiCompoundRepository kanjiCompoundRepository;
+
+    @Transactional(readOnly = true)
+    public List<KanjiLessonDto> loadAll() {
+        List<KanjiLesson> lessons = kanjiLessonRepository.findAllByOrderByDisplayOrderAscIdAsc();
+        if (lessons.isEmpty()) {
+            return List.of();
+        }
+
+        List<Kanji> kanjiRows = inBatches(lessons.stream().map(KanjiLesson::getId).toList(),
+                kanjiRepository::findByLessonIdIn);
+        List<KanjiCompound> compoundRows = kanjiRows.isEmpty()
+                ? List.of()
+                : inBatches(kanjiRows.stream().map(Kanji::getId).toList(),
+                        kanjiCompoundRepository::findByKanjiIdIn);
+
+        // Ghép compounds vào kanji (getKanji().getId() đọc khóa ngoại, không khởi tạo proxy)
+        Map<Long, List<KanjiCompoundDto>> compoundsByKanji = new HashMap<>();
+        for (KanjiCompound compound : compoundRows) {
+            compoundsByKanji.computeIfAbsent(compound.getKanji().getId(), id -> new ArrayList<>())
+                    .add(toCompoundDto(compound));
+        }
+
+        Map<Integer, List<KanjiDto>> kanjiByLesson = new HashMap<>();
+        for (Kanji kanji : kanjiRows) {
+            List<KanjiCompoundDto> compounds = compoundsByKanji.getOrDefault(kanji.getId(), List.of());
+            kanjiByLesson.computeIfAbsent(kanji.getLesson().getId(), id -> new ArrayList<>())
+                    .add(toKanjiDto(kanji, compounds));
+        }
+
+        log.debug("Loaded {} lessons, {} kanji, {} compounds in 3 flat queries",
+                lessons.size(), kanjiRows.size(), compoundRows.size());
+
+        return lessons.stream()
+                .map(lesson -> toLessonDto(lesson, kanjiByLesson.getOrDefault(lesson.getId(), List.of())))
+                .toList();
+    }
+
+    private static <I, R> List<R> inBatches(List<I> ids, Function<List<I>, List<R>> query) {
+        if (ids.size() <= IN_BATCH_SIZE) {
+            return query.apply(ids);
+        }
+        List<R> rows = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+            rows.addAll(query.apply(ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()))));
+        }
+        return rows;
+    }
+
+    private KanjiLessonDto toLessonDto(KanjiLesson lesson, List<KanjiDto> kanji) {
+        return KanjiLessonDto.builder()
+                .lessonId(lesson.getId())
+                .lessonTitle(lesson.getTitle())
+                .icon(lesson.getIcon())
+                .displayOrder(lesson.getDisplayOrder())
+                .kanji(kanji)
+                .build();
+    }
+
+    private KanjiDto toKanjiDto(Kanji kanji, List<KanjiCompoundDto> compounds) {
+        return KanjiDto.builder()
+                .id(kanji.getId())
+                .kanji(kanji.getKanji())
+                .onReading(kanji.getOnReading())
+                .kunReading(kanji.getKunReading())
+                .hanViet(kanji.getHanViet())
+                .meaning(kanji.getMeaning())
+                .strokes(kanji.getStrokes())
+                .displayOrder(kanji.getDisplayOrder())
+                .compounds(compounds)
+                .build();
+    }
+
+    private KanjiCompoundDto toCompoundDto(KanjiCompound compound) {
+        return KanjiCompoundDto.builder()
+                .id(compound.getId())
+                .word(compound.getWord())
+                .reading(compound.getReading())
+                .meaning(compound.getMeaning())
+                .displayOrder(compound.getDisplayOrder())
+                .build();
+    }
+}
@@ -1,113 +1,95 @@
 package com.nekonihongo.backend.service;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import java.util.logging.Logger;
 
+import jakarta.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.nekonihongo.backend.dto.kanji.KanjiCompoundDto;
-import com.nekonihongo.backend.dto.kanji.KanjiDto;
+import com.nekonihongo.backend.catalog.CatalogPayloadRenderer;
+import com.nekonihongo.backend.catalog.CatalogSnapshot;
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.KanjiLessonCatalog;
+import com.nekonihongo.backend.catalog.RenderedPayload;
+import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
-import com.nekonihongo.backend.entity.Kanji;
-import com.nekonihongo.backend.entity.KanjiCompound;
-import com.nekonihongo.backend.entity.KanjiLesson;
-import com.nekonihongo.backend.repository.KanjiLessonRepository;
 
 @Service
 public class KanjiLessonService {
 
         private static final Logger logger = Logger.getLogger(KanjiLessonService.class.getName());
 
-        @Autowired
-        private KanjiLessonRepository kanjiLessonRepository;
+        public static final String CATALOG_NAME = "kanji-lessons";
 
-        @Transactional(readOnly = true)
-        public List<KanjiLessonDto> getAllKanjiLessons() {
-                logger.info("Fetching all kanji lessons");
-                long start = System.currentTimeMillis();
+        @Autowired
+        private KanjiLessonGraphLoader kanjiLessonGraphLoader;
 
-                List<KanjiLesson> lessons = kanjiLessonRepository.findAllWithKanjiAndCompounds();
+        @Autowired
+        private CatalogSnapshotRegistry catalogSnapshotRegistry;
 
-                List<KanjiLessonDto> result = lessons.stream()
-                                .map(this::convertToDto)
-                                .collect(Collectors.toList());
+        @Autowired
+        private CatalogPayloadRenderer payloadRenderer;
 
-                logger.info("Fetched " + result.size() + " lessons in " + (System.currentTimeMillis() - start) + "ms");
-                return result;
-        }
+        @Autowired
+        private ContentVersionService contentVersionService;
 
-        @Transactional(readOnly = true)
-        public List<KanjiLessonDto> getAllLessonsWithKanji() {
-                logger.info("Starting to fetch all lessons with kanji");
-                long startTime = System.currentTimeMillis();
+        private CatalogSnapshotHolder<KanjiLessonCatalog> catalog;
 
-                List<KanjiLesson> lessons = kanjiLessonRepository.findAllWithKanjiAndCompounds();
-                logger.info("Repository returned " + lessons.size() + " lessons");
+        @PostConstruct
+        void registerCatalog() {
+                catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog,
+                                KanjiLessonCatalog::lessons);
+        }
 
-                List<KanjiLessonDto> result = lessons.stream()
-                                .map(entity -> convertToDto(entity))
-                                .collect(Collectors.toList());
+        public List<KanjiLessonDto> getAllKanjiLessons() {
+                return catalog.get().lessons();
+        }
 
-                long duration = System.currentTimeMillis() - startTime;
-                logger.info("Completed mapping " + result.size() + " lessons in " + duration + "ms");
+        public List<KanjiLessonDto> getAllLessonsWithKanji() {
+                return catalog.get().lessons();
+        }
 
-                return result;
+        // Response JSON đã render sẵn cho danh sách lesson đầy đủ (kèm compounds)
+        public RenderedPayload getAllLessonsPayload() {
+                return catalog.get().allLessonsPayload();
         }
 
-        @Transactional(readOnly = true)
         public KanjiLessonDto getKanjiLessonById(Integer id) {
-                return kanjiLessonRepository.findById(id)
-                                .map(this::convertToDto)
-                                .orElse(null);
+                return id == null ? null : catalog.get().byId().get(id);
         }
 
-        private KanjiLessonDto convertToDto(KanjiLesson lesson) {
-                List<KanjiDto> kanjiDtos = lesson.getKanjiList().stream()
-                                .map(this::convertKanjiToDto)
-                                .collect(Collectors.toList());
-
-                return KanjiLessonDto.builder()
-                                .lessonId(lesson.getId())
-                                .lessonTitle(lesson.getTitle())
-                                .icon(lesson.getIcon())
-                                .displayOrder(lesson.getDisplayOrder())
-                                .kanji(kanjiDtos)
-                                .build();
+        /**
+         * Gọi sau khi dữ liệu kanji bị sửa (trong cùng transaction): mọi instance
+         * build lại snapshot ở background, request đang chạy vẫn đọc bản cũ cho tới
+         * khi swap xong.
+         */
+        public void refreshCatalog() {
+                contentVersionService.bump(CATALOG_NAME);
         }
 
-        private KanjiDto convertKanjiToDto(Kanji kanji) {
-                List<KanjiCompoundDto> compoundDtos = kanji.getCompounds().stream()
-                                .map(this::convertCompoundToDto)
-                                .collect(Collectors.toList());
-
-                return KanjiDto.builder()
-                                .id(kanji.getId())
-                                .kanji(kanji.getKanji())
-                                .onReading(kanji.getOnReading())
-                                .kunReading(kanji.getKunReading())
-                                .hanViet(kanji.getHanViet())
-                                .meaning(kanji.getMeaning())
-                                .strokes(kanji.getStrokes())
-                                .displayOrder(kanji.getDisplayOrder())
-                                .compounds(compoundDtos)
-                                .build();
+        public CatalogSnapshot<KanjiLessonCatalog> getCatalogSnapshot() {
+                return catalog.snapshot();
         }
 
-        private KanjiCompoundDto convertCompoundToDto(KanjiCompound compound) {
-                try {
-                        return KanjiCompoundDto.builder()
-                                        .id(compound.getId())
-                                        .word(compound.getWord())
-                                        .reading(compound.getReading())
-                                        .meaning(compound.getMeaning())
-                                        .displayOrder(compound.getDisplayOrder())
-                                        .build();
-                } catch (Exception e) {
-                        logger.severe("Error converting compound: " + compound.getId() + " - " + e.getMessage());
-                        throw e;
-                }
+        private KanjiLessonCatalog loadCatalog() {
+                logger.info("Building kanji lesson snapshot");
+                long start = System.currentTimeMillis();
+
+                List<KanjiLessonDto> lessons = kanjiLessonGraphLoader.loadAll();
+
+                Map<Integer, KanjiLessonDto> byId = new LinkedHashMap<>();
+                lessons.forEach(lesson -> byId.put(lesson.getLessonId(), lesson));
+
+                RenderedPayload allLessonsPayload = payloadRenderer.render(ApiResponse.success(lessons));
+
+                logger.info("Built snapshot of " + lessons.size() + " lessons (" + allLessonsPayload.length()
+                                + " bytes) in " + (System.currentTimeMillis() - start) + "ms");
+                return new KanjiLessonCatalog(lessons, Collections.unmodifiableMap(byId), allLessonsPayload);
         }
 }
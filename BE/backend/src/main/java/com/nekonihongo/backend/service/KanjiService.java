@@ -1,58 +1,143 @@
 // src/main/java/com/nekonihongo/backend/service/KanjiService.java
 package com.nekonihongo.backend.service;
 
+import com.nekonihongo.backend.catalog.CatalogPayloadRenderer;
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.KanjiJlptCatalog;
+import com.nekonihongo.backend.catalog.KanjiReadingCatalog;
+import com.nekonihongo.backend.catalog.RenderedPayload;
+import com.nekonihongo.backend.dto.ApiResponse;
 import com.nekonihongo.backend.dto.KanjiJlptDTO;
+import com.nekonihongo.backend.dto.kanji.KanjiDto;
+import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
+import com.nekonihongo.backend.dto.kanji.KanjiReadingLookupDto;
 import com.nekonihongo.backend.entity.KanjiJlpt;
 import com.nekonihongo.backend.enums.JlptLevelType;
 import com.nekonihongo.backend.repository.KanjiJlptRepository;
+import com.nekonihongo.backend.search.ReadingKeys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class KanjiService {
 
+    public static final String CATALOG_NAME = "kanji-jlpt";
+    public static final String READING_CATALOG_NAME = "kanji-readings";
+
     private final KanjiJlptRepository kanjiJlptRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+    private final CatalogPayloadRenderer payloadRenderer;
+    private final KanjiLessonService kanjiLessonService;
+
+    private CatalogSnapshotHolder<KanjiJlptCatalog> catalog;
+
+    // Cách đọc → kanji, build lại mỗi khi kanji-lessons hoặc kanji-jlpt đổi
+    private CatalogSnapshotHolder<KanjiReadingCatalog> readings;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, KanjiJlptCatalog::all);
+        // Hash cả record: dựng từ hai nguồn, chỉ kanji JLPT đổi cũng phải ra hash mới
+        readings = catalogSnapshotRegistry.registerDerived(READING_CATALOG_NAME, this::loadReadingCatalog,
+                Function.identity(), KanjiLessonService.CATALOG_NAME, CATALOG_NAME);
+    }
 
     // Lấy tất cả kanji theo cấp độ JLPT
     public List<KanjiJlptDTO> getKanjiByLevel(JlptLevelType level) {
-        List<KanjiJlpt> kanjiList = kanjiJlptRepository.findByLevelOrderBySttAsc(level);
-
-        return kanjiList.stream()
-                .map(k -> KanjiJlptDTO.builder()
-                        .id(k.getId())
-                        .stt(k.getStt())
-                        .kanji(k.getKanji())
-                        .hanViet(k.getHanViet() != null ? k.getHanViet() : "-")
-                        .meaning(k.getMeaning())
-                        .onYomi(k.getOnYomi() != null ? k.getOnYomi() : "-")
-                        .kunYomi(k.getKunYomi() != null ? k.getKunYomi() : "-")
-                        .level(k.getLevel())
-                        .build())
-                .toList();
+        return catalog.get().byLevel(level);
     }
 
     // Lấy tất cả kanji của tất cả cấp độ
     public List<KanjiJlptDTO> getAllJlptKanji() {
-        List<KanjiJlpt> kanjiList = kanjiJlptRepository.findAllByOrderByLevelAscSttAsc();
-
-        return kanjiList.stream()
-                .map(k -> KanjiJlptDTO.builder()
-                        .id(k.getId())
-                        .stt(k.getStt())
-                        .kanji(k.getKanji())
-                        .hanViet(k.getHanViet() != null ? k.getHanViet() : "-")
-                        .meaning(k.getMeaning())
-                        .onYomi(k.getOnYomi() != null ? k.getOnYomi() : "-")
-                        .kunYomi(k.getKunYomi() != null ? k.getKunYomi() : "-")
-                        .level(k.getLevel())
-                        .build())
-                .toList();
+        return catalog.get().all();
+    }
+
+    // Response JSON đã render sẵn cho GET /api/kanji/jlpt/all
+    public RenderedPayload getAllJlptKanjiPayload() {
+        return catalog.get().allPayload();
     }
 
     public long getKanjiCountByLevel(JlptLevelType level) {
-        return kanjiJlptRepository.countByLevel(level);
+        return catalog.get().count(level);
+    }
+
+    // Tra kanji theo on/kun (kana hoặc romaji) hoặc âm Hán Việt, không phân biệt dấu
+    public KanjiReadingLookupDto getKanjiByReading(String reading) {
+        String key = ReadingKeys.query(reading);
+        KanjiReadingCatalog snapshot = readings.get();
+        return KanjiReadingLookupDto.builder()
+                .reading(key)
+                .lessonKanji(snapshot.lessonKanji().getOrDefault(key, List.of()))
+                .jlptKanji(snapshot.jlptKanji().getOrDefault(key, List.of()))
+                .build();
+    }
+
+    // Gọi khi bảng kanji_jlpt thay đổi
+    public void refreshCatalog() {
+        contentVersionService.bump(CATALOG_NAME);
+    }
+
+    private KanjiJlptCatalog loadCatalog() {
+        List<KanjiJlptDTO> all = kanjiJlptRepository.findAllByOrderByLevelAscSttAsc().stream()
+                .map(this::toDTO)
+                .toList();
+        RenderedPayload allPayload = payloadRenderer.render(
+                ApiResponse.success("Lấy tất cả Kanji JLPT thành công!", all));
+        return KanjiJlptCatalog.of(all, allPayload);
+    }
+
+    private KanjiReadingCatalog loadReadingCatalog() {
+        Map<String, List<KanjiDto>> lessonKanji = new HashMap<>();
+        for (KanjiLessonDto lesson : kanjiLessonService.getAllKanjiLessons()) {
+            for (KanjiDto k : lesson.getKanji()) {
+                for (String key : keys(k.getOnReading(), k.getKunReading(), k.getHanViet())) {
+                    lessonKanji.computeIfAbsent(key, x -> new ArrayList<>()).add(k);
+                }
+            }
+        }
+        Map<String, List<KanjiJlptDTO>> jlptKanji = new HashMap<>();
+        for (KanjiJlptDTO k : catalog.get().all()) {
+            for (String key : keys(k.getOnYomi(), k.getKunYomi(), k.getHanViet())) {
+                jlptKanji.computeIfAbsent(key, x -> new ArrayList<>()).add(k);
+            }
+        }
+        return new KanjiReadingCatalog(freeze(lessonKanji), freeze(jlptKanji));
+    }
+
+    private static Set<String> keys(String onReading, String kunReading, String hanViet) {
+        Set<String> keys = ReadingKeys.of(onReading);
+        keys.addAll(ReadingKeys.of(kunReading));
+        keys.addAll(ReadingKeys.of(hanViet));
+        return keys;
+    }
+
+    private static <T> Map<String, List<T>> freeze(Map<String, List<T>> index) {
+        index.replaceAll((key, values) -> List.copyOf(values));
+        return Collections.unmodifiableMap(index);
+    }
+
+    private KanjiJlptDTO toDTO(KanjiJlpt k) {
+        return KanjiJlptDTO.builder()
+                .id(k.getId())
+                .stt(k.getStt())
+                .kanji(k.getKanji())
+                .hanViet(k.getHanViet() != null ? k.getHanViet() : "-")
+                .meaning(k.getMeaning())
+                .onYomi(k.getOnYomi() != null ? k.getOnYomi() : "-")
+                .kunYomi(k.getKunYomi() != null ? k.getKunYomi() : "-")
+                .level(k.getLevel())
+                .build();
     }
-}
\ No newline at end of file
+}
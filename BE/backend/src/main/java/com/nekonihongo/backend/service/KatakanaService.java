@@ -1,37 +1,57 @@
 package com.nekonihongo.backend.service;
 
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.KanaCatalog;
 import com.nekonihongo.backend.dto.KatakanaDTO;
 import com.nekonihongo.backend.dto.request.KatakanaRequest;
 import com.nekonihongo.backend.entity.Katakana;
 import com.nekonihongo.backend.mapper.KatakanaMapper;
 import com.nekonihongo.backend.repository.KatakanaRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class KatakanaService {
+    public static final String CATALOG_NAME = "katakana";
+
     private final KatakanaRepository katakanaRepository;
     private final KatakanaMapper katakanaMapper;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+
+    private CatalogSnapshotHolder<KanaCatalog<KatakanaDTO>> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, KanaCatalog::all);
+    }
 
     public List<KatakanaDTO> getAllKatakana() {
-        return katakanaRepository.findAll()
-                .stream()
-                .map(katakanaMapper::toDTO)
-                .collect(Collectors.toList());
+        return catalog.get().all();
     }
 
     public KatakanaDTO getByCharacter(String character) {
-        Katakana katakana = katakanaRepository.findByCharacter(character)
-                .orElse(null);
-        return katakanaMapper.toDTO(katakana);
+        return catalog.get().get(character);
+    }
+
+    private KanaCatalog<KatakanaDTO> loadCatalog() {
+        List<KatakanaDTO> all = katakanaRepository.findAll()
+                .stream()
+                .map(katakanaMapper::toDTO)
+                .toList();
+
+        return KanaCatalog.of(all, KatakanaDTO::getCharacter, KanaCatalog.KATAKANA_BLOCK_BASE);
     }
 
+    @Transactional
     public KatakanaDTO createKatakana(KatakanaRequest request) {
         if (katakanaRepository.findByCharacter(request.getCharacter()).isPresent()) {
             throw new IllegalArgumentException("Character already exists");
@@ -39,9 +59,11 @@ public class KatakanaService {
 
         Katakana katakana = katakanaMapper.toEntity(request);
         Katakana saved = katakanaRepository.save(katakana);
+        contentVersionService.bump(CATALOG_NAME);
         return katakanaMapper.toDTO(saved);
     }
 
+    @Transactional
     public KatakanaDTO updateKatakana(Integer id, KatakanaRequest request) {
         Katakana existing = katakanaRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Katakana not found"));
@@ -57,13 +79,16 @@ public class KatakanaService {
         existing.setStrokeOrder(request.getStrokeOrder());
 
         Katakana updated = katakanaRepository.save(existing);
+        contentVersionService.bump(CATALOG_NAME);
         return katakanaMapper.toDTO(updated);
     }
 
+    @Transactional
     public void deleteKatakana(Integer id) {
         if (!katakanaRepository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Katakana not found");
         }
         katakanaRepository.deleteById(id);
+        contentVersionService.bump(CATALOG_NAME);
     }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.nekonihongo.backend.service;
 
 import com.nekonihongo.backend.dto.*;
+import com.nekonihongo.backend.entity.GrammarLesson;
 import com.nekonihongo.backend.entity.MiniTestSubmission;
 import com.nekonihongo.backend.entity.MiniTestSubmission.Status;
 import com.nekonihongo.backend.entity.User;
 import com.nekonihongo.backend.exception.ResourceNotFoundException;
 import com.nekonihongo.backend.repository.GrammarLessonRepository;
 import com.nekonihongo.backend.repository.MiniTestSubmissionRepository;
+import com.nekonihongo.backend.repository.MiniTestSubmissionSpecifications;
+import com.nekonihongo.backend.repository.MiniTestSubmissionSummary;
 import com.nekonihongo.backend.repository.UserRepository;
 import com.nekonihongo.backend.security.UserPrincipal;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -14,6 +17,9 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -39,6 +45,59 @@ public class MiniTestService {
         return all.stream().map(this::convertToDto).collect(Collectors.toList());
     }
 
+    /**
+     * Tìm kiếm bài nộp cho admin: lọc, sắp xếp và phân trang trong SQL, không
+     * đọc/parse cột answers. Tên/email user và tiêu đề bài học chỉ được tra cho
+     * các bài nộp trong trang hiện tại.
+     */
+    public Page<MiniTestSubmissionDTO> searchSubmissions(String keyword, Status status, Integer lessonId,
+            Long userId, Pageable pageable) {
+        Specification<MiniTestSubmission> spec = MiniTestSubmissionSpecifications.any();
+        if (keyword != null && !keyword.isBlank()) {
+            spec = spec.and(MiniTestSubmissionSpecifications.matchesKeyword(keyword.trim()));
+        }
+        if (status != null) {
+            spec = spec.and(MiniTestSubmissionSpecifications.hasStatus(status));
+        }
+        if (lessonId != null) {
+            spec = spec.and(MiniTestSubmissionSpecifications.hasLessonId(lessonId));
+        }
+        if (userId != null) {
+            spec = spec.and(MiniTestSubmissionSpecifications.hasUserId(userId));
+        }
+        Page<MiniTestSubmissionSummary> page = submissionRepository.searchSummaries(spec, pageable);
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Integer> lessonIds = new HashSet<>();
+        for (MiniTestSubmissionSummary summary : page.getContent()) {
+            userIds.add(summary.userId());
+            lessonIds.add(summary.lessonId());
+        }
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
+        Map<Integer, String> lessonTitles = grammarLessonRepository.findAllById(lessonIds).stream()
+                .collect(Collectors.toMap(GrammarLesson::getId, GrammarLesson::getTitle));
+
+        return page.map(summary -> {
+            User user = users.get(summary.userId());
+            return MiniTestSubmissionDTO.builder()
+                    .id(summary.id())
+                    .userId(summary.userId())
+                    .userName(user != null ? (user.getFullName() != null ? user.getFullName() : user.getUsername())
+                            : null)
+                    .userEmail(user != null ? user.getEmail() : null)
+                    .lessonId(summary.lessonId().longValue())
+                    .lessonTitle(lessonTitles.get(summary.lessonId()))
+                    .submittedAt(summary.submittedAt())
+                    .feedback(summary.feedback())
+                    .feedbackAt(summary.feedbackAt())
+                    .status(summary.status().name())
+                    .score(summary.score())
+                    .timeSpent(summary.timeSpent())
+                    .build();
+        });
+    }
+
     public CheckTestResponseDTO checkUserTestStatus(Long userId, Integer lessonId) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID không được để trống");
@@ -0,0 +1,174 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.catalog.CatalogSnapshot;
+import com.nekonihongo.backend.catalog.CatalogSnapshotHolder;
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.catalog.SearchResultCache;
+import com.nekonihongo.backend.catalog.VocabularyLessonCatalog;
+import com.nekonihongo.backend.dto.LessonResponse;
+import com.nekonihongo.backend.dto.WordResponse;
+import com.nekonihongo.backend.entity.Vocabulary;
+import com.nekonihongo.backend.entity.VocabularyLesson;
+import com.nekonihongo.backend.repository.VocabularyLessonRepository;
+import com.nekonihongo.backend.repository.VocabularyRepository;
+import com.nekonihongo.backend.search.FuzzyIndex;
+import com.nekonihongo.backend.search.NGramIndex;
+import com.nekonihongo.backend.search.TextFolding;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class VocabularyService {
+
+    public static final String CATALOG_NAME = "vocabulary-lessons";
+
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularyLessonRepository vocabularyLessonRepository;
+    private final CatalogSnapshotRegistry catalogSnapshotRegistry;
+    private final ContentVersionService contentVersionService;
+    private final SearchResultCache searchResultCache;
+
+    private CatalogSnapshotHolder<VocabularyLessonCatalog> catalog;
+
+    @PostConstruct
+    void registerCatalog() {
+        catalog = catalogSnapshotRegistry.register(CATALOG_NAME, this::loadCatalog, VocabularyLessonCatalog::byId);
+        catalog.onRebuild(() -> searchResultCache.invalidate(CATALOG_NAME));
+    }
+
+    // Lấy tất cả bài học (danh sách lesson)
+    public List<LessonResponse> getAllLessons() {
+        return catalog.get().lessons();
+    }
+
+    // Lấy 1 bài cụ thể; bài không có từ nào vẫn trả về lesson rỗng như trước (không chạm DB)
+    public LessonResponse getLesson(Integer lessonId) {
+        LessonResponse lesson = catalog.get().byId().get(lessonId);
+        if (lesson != null) {
+            return lesson;
+        }
+        return new LessonResponse(lessonId, titleForLesson(lessonId, null), iconForLesson(null), List.of());
+    }
+
+    // Danh sách phẳng tất cả các từ, theo thứ tự bài
+    public List<WordResponse> getAllWords() {
+        return catalog.get().words();
+    }
+
+    // Tìm kiếm từ vựng (kana/katakana/romaji/tiếng Việt không dấu), xếp hạng exact > prefix > substring
+    public List<WordResponse> search(String query, int limit) {
+        return search(query, limit, false);
+    }
+
+    /**
+     * Như {@link #search(String, int)}; {@code fuzzy = true} thì khi chưa đủ
+     * {@code limit} kết quả, bổ sung các từ có romaji/nghĩa cách query tối đa
+     * {@link FuzzyIndex#MAX_DISTANCE} lỗi.
+     */
+    public List<WordResponse> search(String query, int limit, boolean fuzzy) {
+        CatalogSnapshot<VocabularyLessonCatalog> snapshot = catalog.snapshot();
+        String folded = TextFolding.fold(query);
+        String page = "top:" + limit + (fuzzy ? ":fuzzy" : "");
+        return searchResultCache.get(CATALOG_NAME, snapshot.contentHash(), folded, null, page, () -> {
+            // Chỉ giữ top-k qua heap giới hạn, không dựng toàn bộ danh sách khớp
+            int[] docs = snapshot.data().index().top(folded, null, limit).docs();
+            if (fuzzy && docs.length < limit) {
+                docs = snapshot.data().fuzzy().extend(docs, folded, null, limit - docs.length);
+            }
+            List<WordResponse> results = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                results.add(snapshot.data().words().get(doc));
+            }
+            return Collections.unmodifiableList(results);
+        });
+    }
+
+    // Gọi khi bảng vocabulary thay đổi
+    public void refreshCatalog() {
+        contentVersionService.bump(CATALOG_NAME);
+    }
+
+    public WordResponse toWordResponse(Vocabulary v) {
+        return new WordResponse(v.getJapanese(), v.getKanji(), v.getVietnamese(), v.getCategory());
+    }
+
+    // Chạy trong transaction read-only của registry (cần cho stream)
+    private VocabularyLessonCatalog loadCatalog() {
+        Map<Integer, VocabularyLesson> metadata = vocabularyLessonRepository.findAll().stream()
+                .collect(Collectors.toMap(VocabularyLesson::getId, Function.identity()));
+
+        // Stream đã sắp theo lessonId nên chỉ cần đóng nhóm khi lessonId đổi
+        List<LessonResponse> lessons = new ArrayList<>();
+        try (Stream<Vocabulary> rows = vocabularyRepository.streamAllOrderByLessonIdAndId()) {
+            Integer currentId = null;
+            List<WordResponse> words = null;
+            for (Vocabulary v : (Iterable<Vocabulary>) rows::iterator) {
+                if (!v.getLessonId().equals(currentId)) {
+                    if (currentId != null) {
+                        lessons.add(toLesson(currentId, words, metadata.get(currentId)));
+                    }
+                    currentId = v.getLessonId();
+                    words = new ArrayList<>();
+                }
+                words.add(toWordResponse(v));
+            }
+            if (currentId != null) {
+                lessons.add(toLesson(currentId, words, metadata.get(currentId)));
+            }
+        }
+
+        // Sắp theo display_order; bài chưa có metadata dùng chính lessonId làm thứ tự
+        lessons.sort(Comparator.comparingInt((LessonResponse lesson) -> displayOrder(lesson.getId(),
+                metadata.get(lesson.getId()))).thenComparing(LessonResponse::getId));
+
+        Map<Integer, LessonResponse> byId = new LinkedHashMap<>();
+        lessons.forEach(lesson -> byId.put(lesson.getId(), lesson));
+        // Bài có metadata nhưng chưa có từ: chỉ tra được theo id, không nằm trong danh sách bài
+        metadata.values().stream()
+                .filter(meta -> !byId.containsKey(meta.getId()))
+                .sorted(Comparator.comparing(VocabularyLesson::getId))
+                .forEach(meta -> byId.put(meta.getId(), toLesson(meta.getId(), List.of(), meta)));
+
+        List<WordResponse> words = lessons.stream().flatMap(lesson -> lesson.getWords().stream()).toList();
+        List<String[]> keys = new ArrayList<>(words.size());
+        List<String[]> fuzzyKeys = new ArrayList<>(words.size());
+        for (WordResponse word : words) {
+            String reading = TextFolding.fold(word.getJapanese());
+            String romaji = TextFolding.romaji(reading);
+            String meaning = TextFolding.fold(word.getVietnamese());
+            keys.add(new String[] { reading, romaji, TextFolding.fold(word.getKanji()), meaning });
+            fuzzyKeys.add(new String[] { romaji, meaning });
+        }
+        return new VocabularyLessonCatalog(List.copyOf(lessons), Collections.unmodifiableMap(byId), words,
+                NGramIndex.build(keys), FuzzyIndex.build(fuzzyKeys));
+    }
+
+    private LessonResponse toLesson(Integer lessonId, List<WordResponse> words, VocabularyLesson meta) {
+        return new LessonResponse(lessonId, titleForLesson(lessonId, meta), iconForLesson(meta), List.copyOf(words));
+    }
+
+    // Fallback cho bài chưa có dòng trong vocabulary_lessons
+    private String titleForLesson(Integer lessonId, VocabularyLesson meta) {
+        return meta != null ? meta.getTitle() : "Bài " + lessonId + " – Từ vựng Minna";
+    }
+
+    private String iconForLesson(VocabularyLesson meta) {
+        return meta != null ? meta.getIcon() : "Cat";
+    }
+
+    private int displayOrder(Integer lessonId, VocabularyLesson meta) {
+        return meta != null && meta.getDisplayOrder() != null ? meta.getDisplayOrder() : lessonId;
+    }
+}
@@ -2,6 +2,7 @@ package com.nekonihongo.backend.service.impl;
 
 import com.nekonihongo.backend.entity.User;
 import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.security.AccountStatusCache;
 import com.nekonihongo.backend.service.IUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ public class UserService implements IUserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountStatusCache accountStatusCache;
 
     @Override
     public List<User> findAll() {
@@ -78,16 +80,29 @@ public class UserService implements IUserService {
             existing.setFullName(updatedUser.getFullName());
         if (updatedUser.getAvatarUrl() != null)
             existing.setAvatarUrl(updatedUser.getAvatarUrl());
-        if (updatedUser.getRole() != null)
+        boolean revokeTokens = false;
+        if (updatedUser.getRole() != null && updatedUser.getRole() != existing.getRole()) {
             existing.setRole(updatedUser.getRole());
+            revokeTokens = true;
+        }
         existing.setLevel(updatedUser.getLevel());
         existing.setPoints(updatedUser.getPoints());
         existing.setStreak(updatedUser.getStreak());
         existing.setLongestStreak(updatedUser.getLongestStreak());
-        if (updatedUser.getStatus() != null)
+        if (updatedUser.getStatus() != null && updatedUser.getStatus() != existing.getStatus()) {
             existing.setStatus(updatedUser.getStatus());
+            revokeTokens = true;
+        }
+
+        if (revokeTokens) {
+            // Token cấp trước khi khóa/đổi quyền không dùng được nữa, kể cả sau khi mở khóa
+            existing.setTokenVersion(existing.getTokenVersion() + 1);
+        }
 
-        return userRepository.save(existing);
+        User saved = userRepository.save(existing);
+        // Có hiệu lực ngay trên node này, node khác chậm nhất sau TTL
+        accountStatusCache.invalidate(id);
+        return saved;
     }
 
     @Override
@@ -96,6 +111,7 @@ public class UserService implements IUserService {
             throw new IllegalArgumentException("User không tồn tại!");
         }
         userRepository.deleteById(id);
+        accountStatusCache.invalidate(id);
     }
 
     @Override
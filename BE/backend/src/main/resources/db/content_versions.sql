@@ -0,0 +1,23 @@
+-- Version nội dung của từng catalog, dùng để các instance biết khi nào cần build lại snapshot.
+-- Prod chạy ddl-auto=validate nên cần chạy script này trước khi deploy.
+
+CREATE TABLE IF NOT EXISTS content_versions (
+    name       VARCHAR(64) NOT NULL PRIMARY KEY,
+    version    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME(6) NULL
+);
+
+-- Dòng "global" tăng theo mọi lần ghi; các instance chỉ poll dòng này
+INSERT IGNORE INTO content_versions (name, version) VALUES
+    ('global', 0),
+    ('hiragana', 0),
+    ('katakana', 0),
+    ('kanji-lessons', 0),
+    ('kanji-jlpt', 0),
+    ('grammar-lessons', 0),
+    ('grammar-patterns', 0),
+    ('vocabulary-lessons', 0),
+    ('jlpt-vocabulary', 0),
+    ('jlpt-vocabulary-counts', 0),
+    ('categories', 0),
+    ('levels', 0);
@@ -0,0 +1,12 @@
+-- FULLTEXT index (parser ngram) cho app.search.jlpt-vocabulary.mode=fulltext.
+-- Parser ngram tách chuỗi thành token dài ngram_token_size (mặc định 2) nên dùng
+-- được cho tiếng Nhật không có khoảng trắng. Collation utf8mb4_*_ci giữ cho MATCH
+-- không phân biệt hoa/thường như LIKE hiện tại.
+--
+-- Với parser ngram, mọi token CHỨA một stopword (a, i, in, to, ...) bị bỏ khỏi index,
+-- nên tắt stopword trước khi tạo index để kết quả khớp với LIKE '%q%'.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE jlpt_vocabulary
+    ADD FULLTEXT INDEX ft_jlpt_vocabulary_text (tuVung, hanTu, tiengViet) WITH PARSER ngram;
@@ -0,0 +1,4 @@
+-- Index cho phân trang keyset của jlpt_vocabulary: WHERE level = ? AND id > ? ORDER BY id
+-- (và ORDER BY level, id khi duyệt tất cả level).
+
+CREATE INDEX idx_jlpt_vocabulary_level_id ON jlpt_vocabulary (level, id);
@@ -0,0 +1,5 @@
+-- Version token của từng user: tăng khi đổi role/trạng thái để thu hồi mọi JWT đã cấp.
+-- Prod chạy ddl-auto=validate nên cần chạy script này trước khi deploy.
+
+ALTER TABLE users
+    ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
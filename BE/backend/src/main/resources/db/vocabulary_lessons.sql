@@ -0,0 +1,14 @@
+-- Metadata cho bài từ vựng Minna (title/icon/thứ tự hiển thị).
+-- Prod chạy ddl-auto=validate nên cần chạy script này trước khi deploy.
+
+CREATE TABLE IF NOT EXISTS vocabulary_lessons (
+    id            INT          NOT NULL PRIMARY KEY,
+    title         VARCHAR(255) NOT NULL,
+    icon          VARCHAR(255) NOT NULL DEFAULT 'Cat',
+    display_order INT          NOT NULL DEFAULT 0
+);
+
+-- Khởi tạo từ các bài đang có, giữ nguyên title cũ; sửa title/icon trực tiếp trong bảng sau đó
+INSERT IGNORE INTO vocabulary_lessons (id, title, icon, display_order)
+SELECT DISTINCT lesson_id, CONCAT('Bài ', lesson_id, ' – Từ vựng Minna'), 'Cat', lesson_id
+FROM vocabulary;
@@ -0,0 +1,100 @@
+package com.nekonihongo.backend.benchmark;
+
+import com.nekonihongo.backend.search.FuzzyIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Đo latency của FuzzyIndex trên 20k từ giả lập (romaji + nghĩa hai từ), với
+ * query là key thật bị làm sai 0–2 ký tự. Mục tiêu: p99 dưới 5ms.
+ */
+@Tag("benchmark")
+public class FuzzyIndexBenchmarkTest {
+
+    private static final int WORDS = 20_000;
+    private static final int QUERIES = 20_000;
+    private static final String SYLLABLES = "ka ki ku ke ko sa shi su se so ta chi tsu te to na ni nu ne no "
+            + "ha hi fu he ho ma mi mu me mo ya yu yo ra ri ru re ro wa n ga gi gu ge go ba bi bu be bo";
+    private static final String LATIN = "abcdeghiklmnopqrstuvxy";
+
+    @Test
+    void searchLatency() {
+        Random random = new Random(7);
+        String[] syllables = SYLLABLES.split(" ");
+        List<String[]> keys = new ArrayList<>(WORDS);
+        BitSet n5 = new BitSet(WORDS);
+        for (int i = 0; i < WORDS; i++) {
+            StringBuilder romaji = new StringBuilder();
+            for (int s = 2 + random.nextInt(3); s > 0; s--) {
+                romaji.append(syllables[random.nextInt(syllables.length)]);
+            }
+            keys.add(new String[] { romaji.toString(),
+                    randomWord(random, 2, 6) + " " + randomWord(random, 2, 6) });
+            if (i % 5 == 0) {
+                n5.set(i);
+            }
+        }
+        FuzzyIndex index = FuzzyIndex.build(keys);
+
+        // Một lỗi thay thế trên key dài vẫn tìm được đúng document
+        String target = keys.get(321)[0];
+        String typo = target.substring(0, target.length() - 1) + (target.endsWith("a") ? "e" : "a");
+        FuzzyIndex.Matches matches = index.search(typo, null, 20);
+        assertTrue(Arrays.stream(matches.docs()).anyMatch(doc -> doc == 321), typo);
+
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String key = keys.get(random.nextInt(WORDS))[i % 2];
+            queries[i] = mutate(random, key, random.nextInt(3));
+        }
+
+        for (int i = 0; i < QUERIES; i++) {
+            index.search(queries[i], i % 2 == 0 ? n5 : null, 20);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.search(queries[i], i % 2 == 0 ? n5 : null, 20);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double p50 = nanos[QUERIES / 2] / 1e6;
+        double p99 = nanos[(int) (QUERIES * 0.99)] / 1e6;
+        System.out.printf("FuzzyIndex %d words: p50=%.3fms p99=%.3fms%n", WORDS, p50, p99);
+        assertEquals(WORDS, index.size());
+        assertTrue(p99 < 5.0, "p99 " + p99 + "ms");
+    }
+
+    // Thay, xóa hoặc chèn ngẫu nhiên {@code edits} ký tự
+    private static String mutate(Random random, String key, int edits) {
+        StringBuilder sb = new StringBuilder(key);
+        for (int e = 0; e < edits && sb.length() > 1; e++) {
+            int at = random.nextInt(sb.length());
+            char c = LATIN.charAt(random.nextInt(LATIN.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> sb.setCharAt(at, c);
+                case 1 -> sb.deleteCharAt(at);
+                default -> sb.insert(at, c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String randomWord(Random random, int min, int max) {
+        int length = min + random.nextInt(max - min + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(LATIN.charAt(random.nextInt(LATIN.length())));
+        }
+        return sb.toString();
+    }
+}
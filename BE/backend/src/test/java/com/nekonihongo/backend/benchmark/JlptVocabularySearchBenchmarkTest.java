@@ -0,0 +1,240 @@
+package com.nekonihongo.backend.benchmark;
+
+import com.nekonihongo.backend.search.NGramIndex;
+import com.nekonihongo.backend.search.TextFolding;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * So sánh 3 cách tìm kiếm jlpt_vocabulary trên MySQL thật (Testcontainers) ở
+ * 20k và 200k dòng: LIKE '%q%' (kèm COUNT), FULLTEXT ngram (kèm COUNT) và
+ * NGramIndex trong bộ nhớ. Không có Docker thì LIKE chạy trên H2 (MODE=MySQL)
+ * và bỏ qua FULLTEXT (parser ngram chỉ có ở MySQL).
+ */
+@Tag("benchmark")
+public class JlptVocabularySearchBenchmarkTest {
+
+    private static final int QUERIES = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] LEVELS = { "N5", "N4", "N3", "N2", "N1" };
+    private static final String KANA = "あいうえおかきくけこさしすせそたちつてとなにぬねのはひふへほまみむめもやゆよらりるれろわん";
+    private static final String LATIN = "abcdeghiklmnopqrstuvxy";
+
+    private static final String LIKE_WHERE = "LOWER(tuVung) LIKE LOWER(CONCAT('%', ?, '%')) OR "
+            + "LOWER(hanTu) LIKE LOWER(CONCAT('%', ?, '%')) OR "
+            + "LOWER(tiengViet) LIKE LOWER(CONCAT('%', ?, '%'))";
+    private static final String MATCH = "MATCH(tuVung, hanTu, tiengViet) AGAINST (? IN BOOLEAN MODE)";
+
+    private static MySQLContainer mysql;
+
+    @BeforeAll
+    static void startMySql() {
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            return;
+        }
+        mysql = new MySQLContainer("mysql:8.4")
+                .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+        mysql.start();
+    }
+
+    @AfterAll
+    static void stopMySql() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Test
+    void compareAt20k() throws SQLException {
+        compare(20_000);
+    }
+
+    @Test
+    void compareAt200k() throws SQLException {
+        compare(200_000);
+    }
+
+    private void compare(int rows) throws SQLException {
+        Random random = new Random(rows);
+        List<String[]> words = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            words.add(new String[] { randomWord(random, KANA, 2, 5),
+                    new String(Character.toChars(0x4E00 + random.nextInt(3000))),
+                    randomWord(random, LATIN, 3, 12) + " " + randomWord(random, LATIN, 2, 8) });
+        }
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String key = words.get(random.nextInt(rows))[i % 2 == 0 ? 0 : 2];
+            int from = random.nextInt(Math.max(1, key.length() - 2));
+            queries[i] = key.substring(from, Math.min(key.length(), from + 2 + random.nextInt(3)));
+        }
+
+        try (Connection connection = connect()) {
+            load(connection, words);
+            report(rows, mysql != null ? "LIKE" : "LIKE (H2)",
+                    measure(q -> likeCount(connection, q) + likePage(connection, q), queries));
+
+            if (mysql != null) {
+                // Phrase ngram phải cho đúng số kết quả như LIKE (query kana, không có khoảng trắng)
+                for (int i = 0; i < 20; i += 2) {
+                    assertEquals(likeCount(connection, queries[i]), fullTextCount(connection, queries[i]),
+                            queries[i]);
+                }
+                report(rows, "FULLTEXT",
+                        measure(q -> fullTextCount(connection, q) + fullTextPage(connection, q), queries));
+            }
+        }
+
+        List<String[]> keys = new ArrayList<>(rows);
+        for (String[] word : words) {
+            keys.add(new String[] { TextFolding.fold(word[0]), TextFolding.fold(word[1]), TextFolding.fold(word[2]) });
+        }
+        NGramIndex index = NGramIndex.build(keys);
+        report(rows, "NGramIndex", measure(q -> index.search(TextFolding.fold(q), null).size(), queries));
+    }
+
+    private static Connection connect() throws SQLException {
+        return mysql != null
+                ? mysql.createConnection("")
+                : DriverManager.getConnection("jdbc:h2:mem:jlpt-search-bench;MODE=MySQL", "sa", "");
+    }
+
+    private static void load(Connection connection, List<String[]> words) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS jlpt_vocabulary");
+            statement.execute("CREATE TABLE jlpt_vocabulary (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "level VARCHAR(10) NOT NULL, stt VARCHAR(10), tuVung VARCHAR(255) NOT NULL, "
+                    + "hanTu VARCHAR(255), tiengViet VARCHAR(255) NOT NULL, viDu TEXT)");
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO jlpt_vocabulary (level, stt, tuVung, hanTu, tiengViet) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < words.size(); i++) {
+                String[] word = words.get(i);
+                insert.setString(1, LEVELS[i % LEVELS.length]);
+                insert.setString(2, String.valueOf(i + 1));
+                insert.setString(3, word[0]);
+                insert.setString(4, word[1]);
+                insert.setString(5, word[2]);
+                insert.addBatch();
+                if (i % 5_000 == 4_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        if (mysql == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            // Giống db/jlpt_vocabulary_fulltext.sql
+            statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+            statement.execute("ALTER TABLE jlpt_vocabulary "
+                    + "ADD FULLTEXT INDEX ft_jlpt_vocabulary_text (tuVung, hanTu, tiengViet) WITH PARSER ngram");
+        }
+    }
+
+    private static long likeCount(Connection connection, String query) throws SQLException {
+        return single(connection, "SELECT COUNT(*) FROM jlpt_vocabulary WHERE " + LIKE_WHERE, query, query, query);
+    }
+
+    private static long likePage(Connection connection, String query) throws SQLException {
+        return rows(connection, "SELECT * FROM jlpt_vocabulary WHERE " + LIKE_WHERE + " LIMIT " + PAGE_SIZE,
+                query, query, query);
+    }
+
+    private static long fullTextCount(Connection connection, String query) throws SQLException {
+        return single(connection, "SELECT COUNT(*) FROM jlpt_vocabulary WHERE " + MATCH, phrase(query));
+    }
+
+    private static long fullTextPage(Connection connection, String query) throws SQLException {
+        String phrase = phrase(query);
+        return rows(connection, "SELECT * FROM jlpt_vocabulary WHERE " + MATCH + " ORDER BY " + MATCH
+                + " DESC, id LIMIT " + PAGE_SIZE, phrase, phrase);
+    }
+
+    private static String phrase(String query) {
+        return '"' + query.replace("\"", " ").trim() + '"';
+    }
+
+    private static long single(Connection connection, String sql, String... params) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, sql, params);
+                ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static long rows(Connection connection, String sql, String... params) throws SQLException {
+        long count = 0;
+        try (PreparedStatement statement = prepare(connection, sql, params);
+                ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, String... params)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < params.length; i++) {
+            statement.setString(i + 1, params[i]);
+        }
+        return statement;
+    }
+
+    private static long[] measure(SearchCall call, String[] queries) throws SQLException {
+        // Warm-up: buffer pool/JIT
+        for (int i = 0; i < Math.min(20, queries.length); i++) {
+            call.run(queries[i]);
+        }
+        long[] nanos = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            long start = System.nanoTime();
+            call.run(queries[i]);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void report(int rows, String name, long[] nanos) {
+        System.out.printf("%-10s %7d rows: p50=%.3fms p99=%.3fms%n", name, rows,
+                nanos[nanos.length / 2] / 1e6, nanos[(int) (nanos.length * 0.99)] / 1e6);
+    }
+
+    private static String randomWord(Random random, String alphabet, int min, int max) {
+        int length = min + random.nextInt(max - min + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    @FunctionalInterface
+    private interface SearchCall {
+        long run(String query) throws SQLException;
+    }
+}
@@ -0,0 +1,188 @@
+package com.nekonihongo.backend.benchmark;
+
+import com.nekonihongo.backend.BackendApplication;
+import com.nekonihongo.backend.dto.kanji.KanjiLessonDto;
+import com.nekonihongo.backend.entity.KanjiLesson;
+import com.nekonihongo.backend.service.KanjiLessonGraphLoader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * So sánh JOIN FETCH lesson → kanji → compounds (cách load cũ) với
+ * KanjiLessonGraphLoader (3 query phẳng) trên dữ liệu gấp ~10 lần nội dung thật.
+ * <p>
+ * Không chạy trong {@code ./gradlew test}; chạy riêng bằng
+ * {@code ./gradlew benchmark}.
+ */
+@SpringBootTest(classes = BackendApplication.class)
+@ActiveProfiles("test")
+@Tag("benchmark")
+public class KanjiLessonLoaderBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KanjiLessonLoaderBenchmarkTest.class);
+
+    private static final int LESSONS = 200;
+    private static final int KANJI_PER_LESSON = 25;
+    private static final int COMPOUNDS_PER_KANJI = 4;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 30;
+    private static final String TITLE_PREFIX = "bench-lesson-";
+
+    // Số ký tự các cột text của mỗi bảng (cột số có kích thước cố định, bỏ qua)
+    private static final String LESSON_CHARS = "COALESCE(LENGTH(l.title), 0) + COALESCE(LENGTH(l.icon), 0)";
+    private static final String KANJI_CHARS = "COALESCE(LENGTH(k.kanji), 0) + COALESCE(LENGTH(k.on_reading), 0)"
+            + " + COALESCE(LENGTH(k.kun_reading), 0) + COALESCE(LENGTH(k.han_viet), 0)"
+            + " + COALESCE(LENGTH(k.meaning), 0)";
+    private static final String COMPOUND_CHARS = "COALESCE(LENGTH(c.word), 0) + COALESCE(LENGTH(c.reading), 0)"
+            + " + COALESCE(LENGTH(c.meaning), 0)";
+
+    // JPQL của KanjiLessonRepository.findAllWithKanjiAndCompounds trước khi đổi sang loader
+    private static final String LEGACY_JOIN_FETCH = """
+            SELECT DISTINCT l
+            FROM KanjiLesson l
+            LEFT JOIN FETCH l.kanjiList k
+            LEFT JOIN FETCH k.compounds c
+            ORDER BY l.displayOrder, k.displayOrder, c.displayOrder
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private KanjiLessonGraphLoader kanjiLessonGraphLoader;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        List<Object[]> lessons = new ArrayList<>();
+        for (int l = 0; l < LESSONS; l++) {
+            lessons.add(new Object[] { TITLE_PREFIX + l, "Cat", l });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO kanji_lessons (title, icon, display_order) VALUES (?, ?, ?)", lessons);
+
+        List<Integer> lessonIds = jdbcTemplate.queryForList(
+                "SELECT id FROM kanji_lessons WHERE title LIKE ? ORDER BY display_order", Integer.class,
+                TITLE_PREFIX + "%");
+        List<Object[]> kanji = new ArrayList<>();
+        int codePoint = 0x4E00;
+        for (Integer lessonId : lessonIds) {
+            for (int k = 0; k < KANJI_PER_LESSON; k++) {
+                kanji.add(new Object[] { lessonId, new String(Character.toChars(codePoint++)),
+                        "オン", "くん", "HÁN", "meaning", 5, k });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO kanji (lesson_id, kanji, on_reading, kun_reading, han_viet, meaning, strokes, display_order)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, kanji);
+
+        List<Long> kanjiIds = jdbcTemplate.queryForList(
+                "SELECT k.id FROM kanji k JOIN kanji_lessons l ON l.id = k.lesson_id WHERE l.title LIKE ?",
+                Long.class, TITLE_PREFIX + "%");
+        List<Object[]> compounds = new ArrayList<>();
+        for (Long kanjiId : kanjiIds) {
+            for (int c = 0; c < COMPOUNDS_PER_KANJI; c++) {
+                compounds.add(new Object[] { kanjiId, "word" + c, "reading" + c, "meaning" + c, c });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO kanji_compounds (kanji_id, word, reading, meaning, display_order) VALUES (?, ?, ?, ?, ?)",
+                compounds);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        String lessonFilter = "SELECT id FROM kanji_lessons WHERE title LIKE '" + TITLE_PREFIX + "%'";
+        jdbcTemplate.update("DELETE FROM kanji_compounds WHERE kanji_id IN (SELECT id FROM kanji WHERE lesson_id IN ("
+                + lessonFilter + "))");
+        jdbcTemplate.update("DELETE FROM kanji WHERE lesson_id IN (" + lessonFilter + ")");
+        jdbcTemplate.update("DELETE FROM kanji_lessons WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    void compareTransferredColumnsAndLatency() {
+        // JOIN trả một dòng cho mỗi compound và lặp lại cột của lesson + kanji trên
+        // từng dòng; loader đọc mỗi bảng một lần nên mỗi giá trị chỉ đi qua một lần.
+        long joinedChars = sumChars("(" + LESSON_CHARS + ") + (" + KANJI_CHARS + ") + (" + COMPOUND_CHARS + ")",
+                "FROM kanji_lessons l LEFT JOIN kanji k ON k.lesson_id = l.id"
+                        + " LEFT JOIN kanji_compounds c ON c.kanji_id = k.id");
+        long flatChars = sumChars(LESSON_CHARS, "FROM kanji_lessons l")
+                + sumChars(KANJI_CHARS, "FROM kanji k")
+                + sumChars(COMPOUND_CHARS, "FROM kanji_compounds c");
+        log.info("Text column chars transferred: join fetch={}, batched loader={}", joinedChars, flatChars);
+        assertTrue(flatChars < joinedChars);
+
+        List<KanjiLessonDto> batched = kanjiLessonGraphLoader.loadAll();
+        int batchedCompounds = batched.stream()
+                .flatMap(lesson -> lesson.getKanji().stream())
+                .mapToInt(kanji -> kanji.getCompounds().size())
+                .sum();
+        int legacyCompounds = transactionTemplate.execute(status -> entityManager
+                .createQuery(LEGACY_JOIN_FETCH, KanjiLesson.class)
+                .getResultList().stream()
+                .flatMap(lesson -> lesson.getKanjiList().stream())
+                .mapToInt(kanji -> kanji.getCompounds().size())
+                .sum());
+        assertEquals(legacyCompounds, batchedCompounds);
+
+        long[] legacy = measure(() -> transactionTemplate.execute(status -> {
+            List<KanjiLesson> lessons = entityManager.createQuery(LEGACY_JOIN_FETCH, KanjiLesson.class)
+                    .getResultList();
+            entityManager.clear();
+            return lessons;
+        }));
+        long[] loader = measure(kanjiLessonGraphLoader::loadAll);
+        report("join fetch", legacy);
+        report("batched loader", loader);
+    }
+
+    private long sumChars(String expression, String from) {
+        Long chars = jdbcTemplate.queryForObject("SELECT SUM(" + expression + ") " + from, Long.class);
+        return chars != null ? chars : 0;
+    }
+
+    private long[] measure(Supplier<?> load) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            load.get();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            load.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void report(String label, long[] sortedNanos) {
+        long median = sortedNanos[sortedNanos.length / 2];
+        long p95 = sortedNanos[(int) Math.ceil(sortedNanos.length * 0.95) - 1];
+        log.info("{} median={}ms p95={}ms", label, String.format("%.2f", median / 1e6),
+                String.format("%.2f", p95 / 1e6));
+    }
+}
@@ -0,0 +1,81 @@
+package com.nekonihongo.backend.benchmark;
+
+import com.nekonihongo.backend.search.MatchRank;
+import com.nekonihongo.backend.search.NGramIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Đo latency tìm kiếm của NGramIndex trên corpus giả lập 20k từ (3 key mỗi từ,
+ * giống tuVung/hanTu/tiengViet). Mục tiêu: p99 dưới 1ms.
+ */
+@Tag("benchmark")
+public class NGramIndexBenchmarkTest {
+
+    private static final int WORDS = 20_000;
+    private static final int QUERIES = 20_000;
+    private static final String KANA = "あいうえおかきくけこさしすせそたちつてとなにぬねのはひふへほまみむめもやゆよらりるれろわん";
+    private static final String LATIN = "abcdeghiklmnopqrstuvxy";
+
+    @Test
+    void searchLatency() {
+        Random random = new Random(42);
+        List<String[]> keys = new ArrayList<>(WORDS);
+        BitSet n5 = new BitSet(WORDS);
+        for (int i = 0; i < WORDS; i++) {
+            keys.add(new String[] { randomWord(random, KANA, 2, 5),
+                    new String(Character.toChars(0x4E00 + random.nextInt(3000))),
+                    randomWord(random, LATIN, 3, 12) + " " + randomWord(random, LATIN, 2, 8) });
+            if (i % 5 == 0) {
+                n5.set(i);
+            }
+        }
+        NGramIndex index = NGramIndex.build(keys);
+
+        String exact = keys.get(123)[0];
+        NGramIndex.Hits hits = index.search(exact, null);
+        assertTrue(hits.size() > 0 && hits.rank(0) == MatchRank.EXACT);
+
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] source = keys.get(random.nextInt(WORDS));
+            String key = source[i % 3 == 1 ? 0 : 2];
+            int from = random.nextInt(Math.max(1, key.length() - 2));
+            queries[i] = key.substring(from, Math.min(key.length(), from + 1 + random.nextInt(4)));
+        }
+
+        for (int i = 0; i < QUERIES; i++) {
+            index.search(queries[i], i % 2 == 0 ? n5 : null);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.search(queries[i], i % 2 == 0 ? n5 : null);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double p50 = nanos[QUERIES / 2] / 1e6;
+        double p99 = nanos[(int) (QUERIES * 0.99)] / 1e6;
+        System.out.printf("NGramIndex %d words: p50=%.3fms p99=%.3fms%n", WORDS, p50, p99);
+        assertEquals(WORDS, index.size());
+        assertTrue(p99 < 1.0, "p99 " + p99 + "ms");
+    }
+
+    private static String randomWord(Random random, String alphabet, int min, int max) {
+        int length = min + random.nextInt(max - min + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.nekonihongo.backend.config;
+
+import com.nekonihongo.backend.entity.User;
+import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.security.UserPrincipal;
+import com.nekonihongo.backend.service.JwtService;
+import com.nekonihongo.backend.service.impl.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Mode database: user được đọc lại từ DB mỗi request, không qua cache trạng thái.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.security.authentication-mode=database")
+class JwtAuthenticationFilterDatabaseModeTest {
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void loadsUserFromDatabaseOnEveryRequest() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = userService.createUser(User.builder()
+                .email("db-" + suffix + "@example.com")
+                .username("db-" + suffix)
+                .build(), "secret-password");
+        String token = jwtService.generateToken(user.getEmail(),
+                Map.of("userId", user.getId(), "role", "USER", "tokenVersion", 0L));
+
+        Authentication authentication = authenticate(token);
+        assertNotNull(authentication);
+        UserPrincipal principal = assertInstanceOf(UserPrincipal.class, authentication.getPrincipal());
+        assertNotNull(principal.getUser());
+        assertEquals(user.getId(), principal.getId());
+
+        // Sửa thẳng trong DB (không invalidate cache nào) vẫn có hiệu lực ngay
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.setStatus(User.Status.BANNED);
+        userRepository.save(stored);
+        assertNull(authenticate(token));
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        AtomicReference<Authentication> result = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> result.set(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+        return result.get();
+    }
+}
@@ -0,0 +1,175 @@
+package com.nekonihongo.backend.config;
+
+import com.nekonihongo.backend.dto.AuthRequest;
+import com.nekonihongo.backend.dto.LoginResponse;
+import com.nekonihongo.backend.entity.User;
+import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.security.UserPrincipal;
+import com.nekonihongo.backend.service.AuthService;
+import com.nekonihongo.backend.service.JwtService;
+import com.nekonihongo.backend.service.impl.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Xác thực JWT qua filter thật (mode claims mặc định) trên H2.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    private static final String PASSWORD = "secret-password";
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsModeBuildsPrincipalWithoutLoadingTheUser() throws Exception {
+        User user = createUser();
+
+        Authentication authentication = authenticate(login(user).getToken());
+
+        UserPrincipal principal = assertInstanceOf(UserPrincipal.class, authentication.getPrincipal());
+        assertEquals(user.getId(), principal.getId());
+        assertEquals(user.getEmail(), principal.getUsername());
+        assertNull(principal.getUser());
+        assertEquals(List.of("ROLE_USER"), authorities(authentication));
+    }
+
+    @Test
+    void claimsModeTakesRoleFromAccountStateNotFromToken() throws Exception {
+        User user = createUser();
+        // Token tự nhận ADMIN nhưng user trong DB là USER
+        String token = jwtService.generateToken(user.getEmail(),
+                Map.of("userId", user.getId(), "role", "ADMIN", "tokenVersion", 0L));
+
+        assertEquals(List.of("ROLE_USER"), authorities(authenticate(token)));
+    }
+
+    @Test
+    void inactiveBannedAndDeletedUsersAreRejected() throws Exception {
+        // Ghi thẳng qua repository: version token giữ nguyên, chỉ trạng thái bị kiểm tra
+        User inactive = createUser();
+        String inactiveToken = login(inactive).getToken();
+        setStatusDirectly(inactive.getId(), User.Status.INACTIVE);
+
+        User banned = createUser();
+        String bannedToken = login(banned).getToken();
+        setStatusDirectly(banned.getId(), User.Status.BANNED);
+
+        User deleted = createUser();
+        String deletedToken = login(deleted).getToken();
+        userRepository.deleteById(deleted.getId());
+
+        assertNull(authenticate(inactiveToken));
+        assertNull(authenticate(bannedToken));
+        assertNull(authenticate(deletedToken));
+    }
+
+    @Test
+    void banThenReactivateRevokesTokensIssuedBeforeTheBan() throws Exception {
+        User user = createUser();
+        LoginResponse login = login(user);
+        assertNotNull(authenticate(login.getToken()));
+        // Refresh token không bao giờ dùng để gọi API
+        assertNull(authenticate(login.getRefreshToken()));
+
+        changeStatus(user.getId(), User.Status.BANNED);
+        assertNull(authenticate(login.getToken()));
+
+        changeStatus(user.getId(), User.Status.ACTIVE);
+        assertNull(authenticate(login.getToken()));
+        assertNull(authenticate(login.getRefreshToken()));
+        long currentVersion = userService.findById(user.getId()).orElseThrow().getTokenVersion();
+        assertTrue(JwtService.tokenVersion(jwtService.verify(login.getRefreshToken())) < currentVersion);
+
+        // Đăng nhập lại sau khi mở khóa thì dùng được
+        Authentication fresh = authenticate(login(user).getToken());
+        assertNotNull(fresh);
+        assertEquals(user.getEmail(), fresh.getName());
+    }
+
+    private User createUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = User.builder()
+                .email("user-" + suffix + "@example.com")
+                .username("user-" + suffix)
+                .build();
+        return userService.createUser(user, PASSWORD);
+    }
+
+    private LoginResponse login(User user) {
+        AuthRequest request = new AuthRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword(PASSWORD);
+        return authService.login(request, "127.0.0.1");
+    }
+
+    private void setStatusDirectly(Long id, User.Status status) {
+        User user = userRepository.findById(id).orElseThrow();
+        user.setStatus(status);
+        userRepository.save(user);
+    }
+
+    private static List<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream().map(Object::toString).toList();
+    }
+
+    private void changeStatus(Long id, User.Status status) {
+        User existing = userService.findById(id).orElseThrow();
+        User update = User.builder()
+                .level(existing.getLevel())
+                .points(existing.getPoints())
+                .streak(existing.getStreak())
+                .longestStreak(existing.getLongestStreak())
+                .status(status)
+                .build();
+        userService.updateUser(id, update);
+    }
+
+    // Authentication mà filter đặt vào SecurityContext (null = request không được xác thực)
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        AtomicReference<Authentication> result = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> result.set(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+        return result.get();
+    }
+}
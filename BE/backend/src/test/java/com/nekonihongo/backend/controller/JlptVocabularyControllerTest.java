@@ -0,0 +1,87 @@
+package com.nekonihongo.backend.controller;
+
+import com.nekonihongo.backend.util.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cursor không hợp lệ là lỗi của client: 400, không phải 500.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JlptVocabularyControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/vocabulary/N5/scroll").param("cursor", "not a cursor!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void cursorWithWrongPartsIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/vocabulary/N5/scroll").param("cursor", CursorCodec.encode("N5")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cursorWithNonNumericPositionIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/vocabulary/N5/scroll").param("cursor", CursorCodec.encode("N5", "abc")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cursorFromAnotherLevelIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/vocabulary/N5/scroll").param("cursor", CursorCodec.encode("N4", "10")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void malformedSearchCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/vocabulary/N5/scroll").param("q", "taberu").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchCursorFromOtherSnapshotContentIsBadRequest() throws Exception {
+        // Cursor kèm content hash của dữ liệu khác: báo lỗi thay vì quay về trang đầu
+        mockMvc.perform(get("/api/vocabulary/N5/scroll").param("q", "taberu")
+                .param("cursor", CursorCodec.encode("0123456789abcdef0123456789abcdef", "10")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void largePageWithoutQueryIsAllowed() throws Exception {
+        // VocabularyJLPT.tsx tải cả level một lần với size=2000
+        mockMvc.perform(get("/api/vocabulary/N5").param("page", "1").param("size", "2000"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void largePageWithQueryIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/vocabulary/N5").param("q", "taberu").param("size", "2000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_SIZE"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.nekonihongo.backend.dto.kanji;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Snapshot kanji dùng chung giữa các request: list bên trong phải là bản copy
+ * không sửa được.
+ */
+class KanjiLessonDtoTest {
+
+    @Test
+    void listsAreCopiedOnBuild() {
+        List<KanjiCompoundDto> compounds = new ArrayList<>(List.of(compound("一人")));
+        KanjiDto kanji = KanjiDto.builder().kanji("一").compounds(compounds).build();
+        List<KanjiDto> kanjiList = new ArrayList<>(List.of(kanji));
+        KanjiLessonDto lesson = KanjiLessonDto.builder().lessonId(1).kanji(kanjiList).build();
+
+        compounds.add(compound("一つ"));
+        kanjiList.clear();
+
+        assertEquals(1, lesson.getKanji().size());
+        assertEquals(1, lesson.getKanji().get(0).getCompounds().size());
+    }
+
+    @Test
+    void listsCannotBeModified() {
+        KanjiDto kanji = KanjiDto.builder().kanji("一").compounds(List.of(compound("一人"))).build();
+        KanjiLessonDto lesson = KanjiLessonDto.builder().lessonId(1).kanji(List.of(kanji)).build();
+
+        assertThrows(UnsupportedOperationException.class, () -> lesson.getKanji().clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> lesson.getKanji().get(0).getCompounds().add(compound("一つ")));
+    }
+
+    private static KanjiCompoundDto compound(String word) {
+        return KanjiCompoundDto.builder().word(word).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.nekonihongo.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NGramIndexTest {
+
+    // Thứ tự document ngược với thứ hạng mong đợi để thấy xếp hạng thắng thứ tự
+    private final NGramIndex index = NGramIndex.build(List.of(
+            new String[] { "mitabe" },              // 0: substring của "tabe"
+            new String[] { "tabemono", "do an" },   // 1: prefix
+            new String[] { "tabe", null },          // 2: exact
+            new String[] { "nomu" },                // 3: không khớp
+            new String[] { "tabekata" }));          // 4: prefix
+
+    @Test
+    void searchRanksExactThenPrefixThenSubstring() {
+        NGramIndex.Hits hits = index.search("tabe", null);
+
+        assertArrayEquals(new int[] { 2, 1, 4, 0 }, hits.docs());
+        assertEquals(1, hits.exactCount());
+        assertEquals(2, hits.prefixCount());
+        assertEquals(4, hits.total());
+        assertEquals(MatchRank.EXACT, hits.rank(0));
+        assertEquals(MatchRank.PREFIX, hits.rank(1));
+        assertEquals(MatchRank.PREFIX, hits.rank(2));
+        assertEquals(MatchRank.SUBSTRING, hits.rank(3));
+    }
+
+    @Test
+    void searchVerifiesCandidatesAgainstKeys() {
+        // "abxbc" có đủ bigram "ab" và "bc" của query nhưng không chứa "abc"
+        NGramIndex bigramsOnly = NGramIndex.build(List.<String[]>of(new String[] { "abxbc" }));
+        assertEquals(0, bigramsOnly.search("abc", null).total());
+        assertArrayEquals(new int[] { 1 }, index.search("do an", null).docs());
+    }
+
+    @Test
+    void searchAppliesFilter() {
+        BitSet filter = new BitSet();
+        filter.set(0);
+        filter.set(4);
+
+        assertArrayEquals(new int[] { 4, 0 }, index.search("tabe", filter).docs());
+    }
+
+    @Test
+    void topKeepsBestKAndReportsTotal() {
+        NGramIndex.Hits hits = index.top("tabe", null, 2);
+
+        assertArrayEquals(new int[] { 2, 1 }, hits.docs());
+        assertEquals(4, hits.total());
+        assertArrayEquals(index.search("tabe", null).docs(), index.top("tabe", null, 10).docs());
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        assertArrayEquals(new int[] { 3 }, index.search("u", null).docs());
+        assertEquals(0, index.search("", null).total());
+    }
+}
@@ -0,0 +1,87 @@
+package com.nekonihongo.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TextFoldingTest {
+
+    @Test
+    void foldRemovesVietnameseDiacritics() {
+        assertEquals("hoc sinh", TextFolding.fold("Học Sinh"));
+        assertEquals("an com", TextFolding.fold("ăn cơm"));
+        assertEquals("nguoi viet", TextFolding.fold("Người Việt"));
+        assertEquals("tieng nhat", TextFolding.fold("TIẾNG NHẬT"));
+    }
+
+    @Test
+    void foldMapsDStrokeToD() {
+        assertEquals("di duong", TextFolding.fold("đi đường"));
+        assertEquals("dong", TextFolding.fold("ĐỒNG"));
+    }
+
+    @Test
+    void foldCollapsesWhitespace() {
+        assertEquals("an com", TextFolding.fold("  ăn \t  cơm  "));
+        assertEquals("", TextFolding.fold("   "));
+        assertNull(TextFolding.fold(null));
+    }
+
+    @Test
+    void foldNormalizesWidthAndKatakana() {
+        assertEquals("taberu", TextFolding.fold("ＴＡＢＥＲＵ"));
+        assertEquals("たべる", TextFolding.fold("タベル"));
+        // Katakana half-width (kể cả dakuten tách rời) → hiragana
+        assertEquals("たべる", TextFolding.fold("ﾀﾍﾞﾙ"));
+        assertEquals("ぱん", TextFolding.fold("ﾊﾟﾝ"));
+        assertEquals("ゔ", TextFolding.fold("ヴ"));
+    }
+
+    @Test
+    void foldKeepsKanaDakutenAndSmallKana() {
+        assertEquals("がっこう", TextFolding.fold("ガッコウ"));
+        assertEquals("きゃ", TextFolding.fold("キャ"));
+        assertEquals("ぁぃぅぇぉ", TextFolding.fold("ァィゥェォ"));
+        assertEquals("食べる", TextFolding.fold("食べる"));
+    }
+
+    @Test
+    void romajiUsesHepburn() {
+        assertEquals("taberu", TextFolding.romaji("たべる"));
+        assertEquals("shichi", TextFolding.romaji("しち"));
+        assertEquals("tsuzuku", TextFolding.romaji("つづく"));
+        assertEquals("fuji", TextFolding.romaji("ふじ"));
+        assertEquals("hon", TextFolding.romaji("ほん"));
+    }
+
+    @Test
+    void romajiCombinesSmallKana() {
+        assertEquals("kyou", TextFolding.romaji("きょう"));
+        assertEquals("shashin", TextFolding.romaji("しゃしん"));
+        assertEquals("chotto", TextFolding.romaji("ちょっと"));
+        assertEquals("juu", TextFolding.romaji("じゅう"));
+        assertEquals("fairu", TextFolding.romaji("ふぁいる"));
+    }
+
+    @Test
+    void romajiDoublesConsonantAfterSmallTsu() {
+        assertEquals("kitte", TextFolding.romaji("きって"));
+        assertEquals("zasshi", TextFolding.romaji("ざっし"));
+        assertEquals("matcha", TextFolding.romaji("まっちゃ"));
+    }
+
+    @Test
+    void romajiRepeatsVowelForLongMark() {
+        assertEquals("raamen", TextFolding.romaji(TextFolding.fold("ラーメン")));
+        assertEquals("koohii", TextFolding.romaji(TextFolding.fold("コーヒー")));
+    }
+
+    @Test
+    void romajiIsNullWhenTextIsNotKana() {
+        assertNull(TextFolding.romaji("食べる"));
+        assertNull(TextFolding.romaji("abc"));
+        assertNull(TextFolding.romaji(""));
+        assertNull(TextFolding.romaji(null));
+    }
+}
@@ -0,0 +1,128 @@
+package com.nekonihongo.backend.security;
+
+import com.nekonihongo.backend.dto.AuthRequest;
+import com.nekonihongo.backend.entity.User;
+import com.nekonihongo.backend.repository.UserRepository;
+import com.nekonihongo.backend.service.AuthService;
+import com.nekonihongo.backend.service.impl.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Các đường sửa user phải bỏ entry cache ngay, không chờ TTL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountStatusCacheTest {
+
+    private static final String PASSWORD = "secret-password";
+
+    @Autowired
+    private AccountStatusCache accountStatusCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void entryIsServedFromCacheUntilInvalidated() {
+        User user = createUser(User.Role.USER);
+        assertEquals(User.Status.ACTIVE, accountStatusCache.get(user.getId()).orElseThrow().status());
+
+        // Ghi thẳng vào DB không qua UserService: cache vẫn giữ giá trị cũ tới hết TTL
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.setStatus(User.Status.INACTIVE);
+        userRepository.save(stored);
+        assertEquals(User.Status.ACTIVE, accountStatusCache.get(user.getId()).orElseThrow().status());
+
+        accountStatusCache.invalidate(user.getId());
+        assertEquals(User.Status.INACTIVE, accountStatusCache.get(user.getId()).orElseThrow().status());
+    }
+
+    @Test
+    void updateUserInvalidatesEntry() {
+        User user = createUser(User.Role.USER);
+        assertEquals(User.Role.USER, accountStatusCache.get(user.getId()).orElseThrow().role());
+
+        userService.updateUser(user.getId(), User.builder()
+                .role(User.Role.ADMIN)
+                .status(User.Status.BANNED)
+                .build());
+
+        var state = accountStatusCache.get(user.getId()).orElseThrow();
+        assertEquals(User.Status.BANNED, state.status());
+        assertEquals(User.Role.ADMIN, state.role());
+        assertEquals(1, state.tokenVersion());
+    }
+
+    @Test
+    void deleteByIdInvalidatesEntry() {
+        User user = createUser(User.Role.USER);
+        assertTrue(accountStatusCache.get(user.getId()).isPresent());
+
+        userService.deleteById(user.getId());
+
+        assertTrue(accountStatusCache.get(user.getId()).isEmpty());
+    }
+
+    @Test
+    void adminPutInvalidatesEntry() throws Exception {
+        User admin = createUser(User.Role.ADMIN);
+        User user = createUser(User.Role.USER);
+        assertEquals(User.Status.ACTIVE, accountStatusCache.get(user.getId()).orElseThrow().status());
+
+        mockMvc.perform(put("/api/admin/users/{id}", user.getId())
+                .header("Authorization", "Bearer " + login(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + user.getEmail() + "\",\"status\":\"BANNED\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(User.Status.BANNED, accountStatusCache.get(user.getId()).orElseThrow().status());
+    }
+
+    private User createUser(User.Role role) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userService.createUser(User.builder()
+                .email("cache-" + suffix + "@example.com")
+                .username("cache-" + suffix)
+                .role(role)
+                .build(), PASSWORD);
+    }
+
+    private String login(User user) {
+        AuthRequest request = new AuthRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword(PASSWORD);
+        return authService.login(request, "127.0.0.1").getToken();
+    }
+}
@@ -0,0 +1,70 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.dto.AuthRequest;
+import com.nekonihongo.backend.entity.User;
+import com.nekonihongo.backend.exception.TooManyRequestsException;
+import com.nekonihongo.backend.service.impl.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Giới hạn theo IP chỉ tính lần sai: cả lớp sau một NAT đăng nhập đúng không bị 429.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.security.login.max-attempts-per-ip=3")
+class AuthServiceLoginThrottleTest {
+
+    private static final String PASSWORD = "secret-password";
+    private static final int MAX_PER_IP = 3;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void successfulLoginsFromOneIpAreNotThrottled() {
+        for (int i = 0; i < MAX_PER_IP * 3; i++) {
+            assertNotNull(authService.login(request(createUser().getEmail(), PASSWORD), "10.0.0.1").getToken());
+        }
+    }
+
+    @Test
+    void failedLoginsFromOneIpAreThrottled() {
+        User user = createUser();
+        for (int i = 0; i < MAX_PER_IP; i++) {
+            // Mỗi lần một email khác nhau để chỉ giới hạn theo IP có tác dụng
+            assertThrows(BadCredentialsException.class,
+                    () -> authService.login(request(createUser().getEmail(), "wrong"), "10.0.0.2"));
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> authService.login(request(user.getEmail(), PASSWORD), "10.0.0.2"));
+    }
+
+    private User createUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userService.createUser(User.builder()
+                .email("throttle-" + suffix + "@example.com")
+                .username("throttle-" + suffix)
+                .build(), PASSWORD);
+    }
+
+    private static AuthRequest request(String email, String password) {
+        AuthRequest request = new AuthRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
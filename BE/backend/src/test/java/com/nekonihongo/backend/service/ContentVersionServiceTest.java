@@ -0,0 +1,53 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.entity.ContentVersion;
+import com.nekonihongo.backend.repository.ContentVersionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * bump() chạy trong transaction ghi của admin service: không được detach entity
+ * mà transaction đó đã load.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ContentVersionServiceTest {
+
+    private static final String CATALOG = VocabularyService.CATALOG_NAME;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private ContentVersionRepository contentVersionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void bumpKeepsLoadedEntitiesManagedAndReadsFreshVersions() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ContentVersion loaded = contentVersionRepository.findById(CATALOG).orElseThrow();
+            long before = loaded.getVersion();
+
+            contentVersionService.bump(CATALOG);
+            contentVersionService.bump(CATALOG);
+
+            assertTrue(entityManager.contains(loaded));
+            List<Object[]> rows = contentVersionRepository.findVersionsByNames(List.of(CATALOG));
+            assertEquals(before + 2, ((Number) rows.get(0)[1]).longValue());
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.dto.CursorPageDTO;
+import com.nekonihongo.backend.dto.JlptVocabularyDTO;
+import com.nekonihongo.backend.entity.JlptVocabulary;
+import com.nekonihongo.backend.repository.JlptVocabularyRepository;
+import com.nekonihongo.backend.util.CursorCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Mode like: cursor là offset thô trên DB, client đổi size giữa các trang vẫn
+ * không bỏ sót hay lặp dòng.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.search.jlpt-vocabulary.mode=like")
+class JlptVocabularyScrollSearchTest {
+
+    private static final String QUERY = "scrolltest";
+    private static final int WORDS = 7;
+
+    @Autowired
+    private JlptVocabularyService service;
+
+    @Autowired
+    private JlptVocabularyRepository repository;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < WORDS; i++) {
+            ids.add(repository.save(JlptVocabulary.builder()
+                    .level("N5")
+                    .stt(String.valueOf(i))
+                    .tuVung(QUERY + i)
+                    .tiengViet("nghĩa " + i)
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAllById(ids);
+        ids.clear();
+    }
+
+    @Test
+    void changingSizeBetweenPagesNeitherSkipsNorRepeatsRows() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int[] sizes = { 3, 2, 4 };
+        for (int size : sizes) {
+            CursorPageDTO<JlptVocabularyDTO> page = service.scrollSearch("N5", QUERY, cursor, size);
+            page.getItems().forEach(word -> seen.add(word.getTuVung()));
+            cursor = page.getNextCursor();
+            if (cursor == null) {
+                break;
+            }
+        }
+
+        assertNull(cursor);
+        assertEquals(WORDS, seen.size());
+        assertEquals(WORDS, seen.stream().distinct().count());
+    }
+
+    @Test
+    void offsetThatIsNotAMultipleOfSizeIsHonoured() {
+        CursorPageDTO<JlptVocabularyDTO> page = service.scrollSearch("N5", QUERY, CursorCodec.encode("5"), 4);
+
+        assertEquals(2, page.getItems().size());
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void negativeOffsetIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.scrollSearch("N5", QUERY, CursorCodec.encode("-1"), 3));
+    }
+}
@@ -0,0 +1,56 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.entity.KanjiJlpt;
+import com.nekonihongo.backend.enums.JlptLevelType;
+import com.nekonihongo.backend.repository.KanjiJlptRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Catalog cách đọc dựng từ kanji bài học và kanji JLPT: đổi một nguồn là đổi hash.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class KanjiReadingCatalogHashTest {
+
+    @Autowired
+    private CatalogSnapshotRegistry catalogSnapshotRegistry;
+
+    @Autowired
+    private KanjiJlptRepository kanjiJlptRepository;
+
+    private Long insertedId;
+
+    @AfterEach
+    void cleanUp() {
+        if (insertedId != null) {
+            kanjiJlptRepository.deleteById(insertedId);
+        }
+        rebuild();
+    }
+
+    @Test
+    void jlptOnlyChangeMovesTheContentHash() {
+        String before = rebuild();
+
+        insertedId = kanjiJlptRepository.save(KanjiJlpt.builder()
+                .level(JlptLevelType.N5)
+                .kanji("鬱")
+                .meaning("u uất")
+                .onYomi("ウツ")
+                .build()).getId();
+
+        assertNotEquals(before, rebuild());
+    }
+
+    private String rebuild() {
+        catalogSnapshotRegistry.get(KanjiService.CATALOG_NAME).rebuild();
+        return catalogSnapshotRegistry.get(KanjiService.READING_CATALOG_NAME).rebuild().contentHash();
+    }
+}
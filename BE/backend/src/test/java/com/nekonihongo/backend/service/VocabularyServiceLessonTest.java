@@ -0,0 +1,68 @@
+package com.nekonihongo.backend.service;
+
+import com.nekonihongo.backend.catalog.CatalogSnapshotRegistry;
+import com.nekonihongo.backend.dto.LessonResponse;
+import com.nekonihongo.backend.entity.VocabularyLesson;
+import com.nekonihongo.backend.repository.VocabularyLessonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Bài chưa có từ vẫn lấy metadata từ snapshot, không truy vấn DB mỗi request.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class VocabularyServiceLessonTest {
+
+    private static final int EMPTY_LESSON_ID = 9901;
+
+    @Autowired
+    private VocabularyService vocabularyService;
+
+    @Autowired
+    private CatalogSnapshotRegistry catalogSnapshotRegistry;
+
+    @MockitoSpyBean
+    private VocabularyLessonRepository vocabularyLessonRepository;
+
+    @AfterEach
+    void cleanUp() {
+        vocabularyLessonRepository.deleteById(EMPTY_LESSON_ID);
+        catalogSnapshotRegistry.get(VocabularyService.CATALOG_NAME).rebuild();
+    }
+
+    @Test
+    void emptyLessonMetadataIsServedFromSnapshot() {
+        vocabularyLessonRepository.save(new VocabularyLesson(EMPTY_LESSON_ID, "Bài trống", "Dog", 1));
+        catalogSnapshotRegistry.get(VocabularyService.CATALOG_NAME).rebuild();
+        clearInvocations(vocabularyLessonRepository);
+
+        LessonResponse lesson = vocabularyService.getLesson(EMPTY_LESSON_ID);
+
+        assertEquals("Bài trống", lesson.getTitle());
+        assertEquals("Dog", lesson.getIcon());
+        assertTrue(lesson.getWords().isEmpty());
+        verify(vocabularyLessonRepository, never()).findById(any());
+    }
+
+    @Test
+    void unknownLessonFallsBackWithoutQuery() {
+        clearInvocations(vocabularyLessonRepository);
+
+        LessonResponse lesson = vocabularyService.getLesson(EMPTY_LESSON_ID + 1);
+
+        assertEquals("Bài " + (EMPTY_LESSON_ID + 1) + " – Từ vựng Minna", lesson.getTitle());
+        verify(vocabularyLessonRepository, never()).findById(any());
+    }
+}
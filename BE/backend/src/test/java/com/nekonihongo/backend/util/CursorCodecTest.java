@@ -0,0 +1,45 @@
+package com.nekonihongo.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsParts() {
+        String cursor = CursorCodec.encode("N5", "1234");
+
+        assertFalse(cursor.contains("|"));
+        assertArrayEquals(new String[] { "N5", "1234" }, CursorCodec.decode(cursor, 2));
+        assertEquals(1234L, CursorCodec.decodeLong(CursorCodec.decode(cursor, 2)[1]));
+    }
+
+    @Test
+    void keepsEmptyParts() {
+        assertArrayEquals(new String[] { "", "7" }, CursorCodec.decode(CursorCodec.encode("", "7"), 2));
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64Url() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CursorCodec.decode("not a cursor!", 2));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    @Test
+    void rejectsWrongNumberOfParts() {
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(CursorCodec.encode("42"), 2));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(CursorCodec.encode("N5", "1", "2"), 2));
+    }
+
+    @Test
+    void rejectsNonNumericPosition() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CursorCodec.decodeLong("abc"));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+}